@@ -19,4 +19,12 @@ void draw() {
     // Print where he's looking at
     println(device.x);  
     println(device.y);  
-}
\ No newline at end of file
+}
+
+// Called right before draw() for every fixation since the last frame. You can also
+// define gazeEnter(), gazeLeave(), gazeSample(int x, int y), gazeSaccadeStart(int x, int y),
+// gazeSaccadeEnd(int x, int y) and gazeSelect(int target) for targets added to
+// device.dwell. Implement eyetracking.GazeListener to have them called without reflection.
+void gazeFixation(int x, int y) {
+    println("Fixation at " + x + ", " + y);
+}
@@ -38,4 +38,58 @@ public class Config {
     /** Specifies how many values are used to average the raw gaze data */
     public volatile int averagingRawGazeDataSize = 3;
 
+    /** Velocity (pixels per second) above which a saccade starts */
+    public volatile float saccadeOnsetVelocity = 1500;
+
+    /** Velocity (pixels per second) below which a running saccade ends */
+    public volatile float saccadeOffsetVelocity = 1000;
+
+    /** How far (in pixels) a fixation may be off a registered text line and still count for it */
+    public volatile int readingLineTolerance = 10;
+
+    /** Forward jumps over more words than this count as skimming instead of reading */
+    public volatile int readingSkimWordSpan = 3;
+
+    /** Fraction of a line's words that must be read for the whole line to count as read */
+    public volatile float readingLineCoverage = 0.6f;
+
+    /** If true, device.frame's raw gaze is extrapolated to the time the frame will be shown */
+    public volatile boolean frameInterpolation = false;
+
+    /** Time (in ms) from pre() until the frame is on screen, used for frameInterpolation */
+    public volatile int frameDisplayLatency = 16;
+
+    /** Number of raw samples the quality data (precision, validity) is computed over */
+    public volatile int qualitySampleWindow = 120;
+
+    /** Number of fixations the quality data's fixation durations are computed over */
+    public volatile int qualityFixationWindow = 50;
+
+    /** If true, device.foveation is updated every frame */
+    public volatile boolean foveation = false;
+
+    /** Size (in pixels) of the foveation tiles */
+    public volatile int foveationTileSize = 64;
+
+    /** Radius (in pixels) of the full detail area when the head is at foveationReferenceHeadZ */
+    public volatile float foveationRadius = 150;
+
+    /** Head distance (see Head.z) at which foveationRadius applies; the radius grows with distance */
+    public volatile float foveationReferenceHeadZ = 0.5f;
+
+    /** Number of foveation levels, including the full detail one */
+    public volatile int foveationLevels = 4;
+
+    /** How far (relative to its border) a tile must be past its level before it gets coarser */
+    public volatile float foveationHysteresis = 0.2f;
+
+    /** How long (in ms) the foveation map is kept when the gaze is lost, so blinks don't flicker */
+    public volatile int foveationGrace = 300;
+
+    /** How far (in pixels) the gaze may stray outside a dwell target without leaving it */
+    public volatile int dwellExitMargin = 20;
+
+    /** How long (in ms) the gaze may be off a dwell target, or lost, before it counts as left */
+    public volatile int dwellExitGrace = 150;
+
 }
@@ -0,0 +1,379 @@
+/*
+ * Dwell.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Dwell time selection. Register rectangular targets (in window coordinates) with the time
+ * the gaze has to rest on them; once it did, the sketch's gazeSelect(int target) method is
+ * called in the next frame. Dwell time is measured on the tracker's sample times, so it
+ * does not depend on the frame rate.
+ *
+ * The gaze enters a target when it is inside the rectangle and moves on at once when it is
+ * inside another one. Over no target at all, it only leaves once it was more than
+ * config.dwellExitMargin pixels outside for config.dwellExitGrace ms, so jitter and blinks
+ * don't reset the timer. A target is selected once per visit.
+ *
+ * Ids are never reused, not even after clear(), so a selection still queued for the next
+ * frame always refers to the target it was made on. The storage of removed targets is
+ * reused, so adding and removing targets forever does not grow.
+ */
+public class Dwell {
+    /** Size of the cells of the spatial index, in pixels */
+    static final int CELL = 128;
+
+    /** Number of buckets of the spatial index, power of two */
+    static final int BUCKETS = 256;
+
+    /** Guards everything */
+    final Lock lock = new ReentrantLock();
+
+    /** Our config */
+    private final Config config;
+
+    /** Where selections go */
+    private final SketchEvents events;
+
+    /** Number of target slots used so far */
+    private int count = 0;
+
+    /** Id the next target gets; keeps counting across clear() */
+    private int nextId = 0;
+
+    /** Slots of removed targets, to be used again */
+    private int[] free = new int[16];
+
+    /** Number of entries in free */
+    private int freeCount = 0;
+
+    /** Target id, indexed by slot */
+    private int[] ids = new int[16];
+
+    /** Target geometry and dwell time, indexed by slot */
+    private int[] targetX = new int[16], targetY = new int[16], targetWidth = new int[16], targetHeight = new int[16], targetDwell = new int[16];
+
+    /** False for removed targets */
+    private boolean[] alive = new boolean[16];
+
+    /** Spatial index: targets per bucket of cells */
+    private final int[][] buckets = new int[BUCKETS][];
+
+    /** Number of entries per bucket */
+    private final int[] bucketSizes = new int[BUCKETS];
+
+    /** Slot of the target the gaze currently dwells on, -1 if none */
+    private int active = -1;
+
+    /** Sample time the gaze entered the active target */
+    private long enterTime;
+
+    /** Sample time the gaze was last on the active target */
+    private long lastInside;
+
+    /** True if the active target was already selected during this visit */
+    private boolean selected;
+
+    /**
+     * @param config
+     * @param events
+     */
+    Dwell(Config config, SketchEvents events) {
+        this.config = config;
+        this.events = events;
+
+        for (int i = 0; i < BUCKETS; i++) {
+            this.buckets[i] = new int[4];
+        }
+    }
+
+    /**
+     * Adds a target.
+     *
+     * @param x Left (window coordinates)
+     * @param y Top (window coordinates)
+     * @param width
+     * @param height
+     * @param dwell Time in ms the gaze has to rest on the target to select it
+     *
+     * @return The target's id, passed to gazeSelect(int target). Never reused.
+     */
+    public int addTarget(int x, int y, int width, int height, int dwell) {
+        try {
+            this.lock.lock();
+
+            final int target;
+            if (this.freeCount > 0) {
+                target = this.free[--this.freeCount];
+            } else {
+                target = this.count++;
+                if (target == this.alive.length) grow(2 * target);
+            }
+
+            this.ids[target] = this.nextId++;
+            this.targetX[target] = x;
+            this.targetY[target] = y;
+            this.targetWidth[target] = width;
+            this.targetHeight[target] = height;
+            this.targetDwell[target] = dwell;
+            this.alive[target] = true;
+
+            for (int cy = cell(y); cy <= cell(y + height - 1); cy++) {
+                for (int cx = cell(x); cx <= cell(x + width - 1); cx++) {
+                    final int bucket = bucket(cx, cy);
+                    final int size = this.bucketSizes[bucket];
+
+                    // Large targets may land in a bucket several times
+                    if (size > 0 && this.buckets[bucket][size - 1] == target) continue;
+                    if (size == this.buckets[bucket].length) this.buckets[bucket] = Arrays.copyOf(this.buckets[bucket], 2 * size);
+
+                    this.buckets[bucket][size] = target;
+                    this.bucketSizes[bucket]++;
+                }
+            }
+
+            return this.ids[target];
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes a target. Its id is not reused, its storage is. Takes time linear in the
+     * number of targets.
+     *
+     * @param id
+     */
+    public void removeTarget(int id) {
+        try {
+            this.lock.lock();
+
+            final int target = slot(id);
+            if (target < 0) return;
+
+            this.alive[target] = false;
+            if (this.active == target) this.active = -1;
+
+            // Only the buckets of the target's cells can hold it
+            final int x = this.targetX[target], y = this.targetY[target];
+            for (int cy = cell(y); cy <= cell(y + this.targetHeight[target] - 1); cy++) {
+                for (int cx = cell(x); cx <= cell(x + this.targetWidth[target] - 1); cx++) {
+                    final int bucket = bucket(cx, cy);
+                    final int[] entries = this.buckets[bucket];
+                    int size = this.bucketSizes[bucket];
+
+                    for (int i = 0; i < size; i++) {
+                        if (entries[i] != target) continue;
+                        entries[i--] = entries[--size];
+                    }
+
+                    this.bucketSizes[bucket] = size;
+                }
+            }
+
+            if (this.freeCount == this.free.length) this.free = Arrays.copyOf(this.free, 2 * this.freeCount);
+            this.free[this.freeCount++] = target;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all targets. New targets get fresh ids, so selections of the old ones still
+     * queued are delivered with ids the sketch no longer uses.
+     */
+    public void clear() {
+        try {
+            this.lock.lock();
+
+            Arrays.fill(this.alive, false);
+            Arrays.fill(this.bucketSizes, 0);
+            this.count = 0;
+            this.freeCount = 0;
+            this.active = -1;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @param id
+     * @return How far (0 to 1) the gaze has dwelled on the target towards selecting it; 0 if
+     *         the gaze is not on it. Useful to draw feedback.
+     */
+    public float progress(int id) {
+        try {
+            this.lock.lock();
+
+            if (this.active < 0 || this.ids[this.active] != id) return 0;
+            if (this.selected) return 1;
+
+            return Math.min(1f, (float) (this.lastInside - this.enterTime) / Math.max(this.targetDwell[this.active], 1));
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @return The target the gaze currently dwells on, -1 if none.
+     */
+    public int current() {
+        try {
+            this.lock.lock();
+            return this.active < 0 ? -1 : this.ids[this.active];
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Processes a raw sample. Costs one bucket lookup, independent of the number of targets
+     * (as long as they don't pile up in one place).
+     *
+     * @param time Sample time in ms
+     * @param valid
+     * @param x Window relative
+     * @param y Window relative
+     */
+    void sample(long time, boolean valid, int x, int y) {
+        try {
+            this.lock.lock();
+
+            final int hit = valid ? hit(x, y) : -1;
+
+            if (hit >= 0) {
+                // Being inside a target always wins, so neighbouring targets can be reached
+                if (hit != this.active) {
+                    this.active = hit;
+                    this.enterTime = time;
+                    this.selected = false;
+                }
+
+                this.lastInside = time;
+            } else if (this.active >= 0) {
+                // Over no target, stay with the active one while close or the grace time lasts
+                if (valid && inside(this.active, x, y, this.config.dwellExitMargin)) {
+                    this.lastInside = time;
+                } else if (time - this.lastInside > this.config.dwellExitGrace) {
+                    this.active = -1;
+                }
+            }
+
+            if (this.active < 0) return;
+
+            if (!this.selected && this.lastInside - this.enterTime >= this.targetDwell[this.active]) {
+                this.selected = true;
+                this.events.post(SketchEvents.SELECT, this.ids[this.active], 0);
+            }
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @param x
+     * @param y
+     * @return The smallest target containing the point, -1 if none.
+     */
+    private int hit(int x, int y) {
+        final int bucket = bucket(cell(x), cell(y));
+        final int[] entries = this.buckets[bucket];
+        final int size = this.bucketSizes[bucket];
+
+        int best = -1;
+        long bestArea = Long.MAX_VALUE;
+
+        for (int i = 0; i < size; i++) {
+            final int target = entries[i];
+            if (!inside(target, x, y, 0)) continue;
+
+            final long area = (long) this.targetWidth[target] * this.targetHeight[target];
+            if (area < bestArea) {
+                best = target;
+                bestArea = area;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * @param target
+     * @param x
+     * @param y
+     * @param margin
+     * @return True if the point is inside the target grown by margin.
+     */
+    private boolean inside(int target, int x, int y, int margin) {
+        return x >= this.targetX[target] - margin && y >= this.targetY[target] - margin && x < this.targetX[target] + this.targetWidth[target] + margin && y < this.targetY[target] + this.targetHeight[target] + margin;
+    }
+
+    /**
+     * @param id
+     * @return The slot of the live target with the given id, -1 if there is none.
+     */
+    private int slot(int id) {
+        for (int i = 0; i < this.count; i++) {
+            if (this.alive[i] && this.ids[i] == id) return i;
+        }
+
+        return -1;
+    }
+
+    /**
+     * @param size
+     */
+    private void grow(int size) {
+        this.ids = Arrays.copyOf(this.ids, size);
+        this.targetX = Arrays.copyOf(this.targetX, size);
+        this.targetY = Arrays.copyOf(this.targetY, size);
+        this.targetWidth = Arrays.copyOf(this.targetWidth, size);
+        this.targetHeight = Arrays.copyOf(this.targetHeight, size);
+        this.targetDwell = Arrays.copyOf(this.targetDwell, size);
+        this.alive = Arrays.copyOf(this.alive, size);
+    }
+
+    /**
+     * @param coordinate
+     * @return The cell of the coordinate.
+     */
+    private static int cell(int coordinate) {
+        return coordinate >= 0 ? coordinate / CELL : -((CELL - 1 - coordinate) / CELL);
+    }
+
+    /**
+     * @param cx
+     * @param cy
+     * @return The bucket of the cell.
+     */
+    private static int bucket(int cx, int cy) {
+        return (cx * 73856093 ^ cy * 19349663) & (BUCKETS - 1);
+    }
+}
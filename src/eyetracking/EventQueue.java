@@ -0,0 +1,195 @@
+/*
+ * EventQueue.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Bounded lock free queue of small events, filled by any number of tracking threads and
+ * drained by the animation thread. Events are stored in preallocated primitive slots, so
+ * neither side allocates. When the queue is full new events are dropped; producers can drop
+ * less important events earlier by passing a lower limit.
+ */
+class EventQueue {
+    /** Number of slots, power of two */
+    private final int capacity;
+
+    /** capacity - 1 */
+    private final int mask;
+
+    /** Per slot sequence; tells producers and the consumer whose turn a slot is */
+    private final AtomicLongArray sequences;
+
+    /** Event types */
+    private final int[] types;
+
+    /** First argument of each event */
+    private final int[] as;
+
+    /** Second argument of each event */
+    private final int[] bs;
+
+    /** Next position to write */
+    private final AtomicLong tail = new AtomicLong();
+
+    /** Next position to read, only written by the consumer */
+    private volatile long head = 0;
+
+    /** Number of events dropped because the queue was full */
+    final AtomicLong dropped = new AtomicLong();
+
+    /**
+     * @param capacity Will be rounded up to a power of two.
+     */
+    EventQueue(int capacity) {
+        int size = 1;
+        while (size < capacity)
+            size <<= 1;
+
+        this.capacity = size;
+        this.mask = size - 1;
+        this.sequences = new AtomicLongArray(size);
+        this.types = new int[size];
+        this.as = new int[size];
+        this.bs = new int[size];
+
+        for (int i = 0; i < size; i++) {
+            this.sequences.set(i, i);
+        }
+    }
+
+    /**
+     * Adds an event. May be called from any thread.
+     *
+     * @param type
+     * @param a
+     * @param b
+     * @return False if the queue was full and the event was dropped.
+     */
+    boolean offer(int type, int a, int b) {
+        return offer(type, a, b, this.capacity);
+    }
+
+    /**
+     * Adds an event unless the queue already holds limit events. May be called from any
+     * thread.
+     *
+     * @param type
+     * @param a
+     * @param b
+     * @param limit
+     * @return False if the queue was too full and the event was dropped.
+     */
+    boolean offer(int type, int a, int b, int limit) {
+        long pos;
+        int slot;
+
+        while (true) {
+            pos = this.tail.get();
+            slot = (int) pos & this.mask;
+
+            if (pos - this.head >= limit) {
+                this.dropped.incrementAndGet();
+                return false;
+            }
+
+            final long sequence = this.sequences.get(slot);
+            if (sequence < pos) {
+                this.dropped.incrementAndGet();
+                return false;
+            }
+
+            if (sequence == pos && this.tail.compareAndSet(pos, pos + 1)) break;
+        }
+
+        this.types[slot] = type;
+        this.as[slot] = a;
+        this.bs[slot] = b;
+
+        // Publishes the slot to the consumer
+        this.sequences.set(slot, pos + 1);
+        return true;
+    }
+
+    /**
+     * Hands all events currently in the queue to the sink. Events added while draining are
+     * left for the next call. Must only be called from one thread at a time.
+     *
+     * @param sink
+     * @return The number of events drained.
+     */
+    int drain(Sink sink) {
+        final long end = this.tail.get();
+        int count = 0;
+
+        while (this.head < end) {
+            final int slot = (int) this.head & this.mask;
+            if (this.sequences.get(slot) != this.head + 1) return count;
+
+            final int type = this.types[slot];
+            final int a = this.as[slot];
+            final int b = this.bs[slot];
+
+            // Frees the slot for the producers
+            this.sequences.set(slot, this.head + this.capacity);
+            this.head++;
+            count++;
+
+            sink.event(type, a, b);
+        }
+
+        return count;
+    }
+
+    /**
+     * @return The number of slots.
+     */
+    int capacity() {
+        return this.capacity;
+    }
+
+    /**
+     * @return Number of events dropped so far.
+     */
+    long dropped() {
+        return this.dropped.get();
+    }
+
+    /**
+     * Receives drained events.
+     */
+    interface Sink {
+        /**
+         * @param type
+         * @param a
+         * @param b
+         */
+        void event(int type, int a, int b);
+    }
+}
@@ -23,8 +23,11 @@ package eyetracking;
 
 import java.awt.Dimension;
 import java.awt.Point;
-import java.util.ArrayList;
+import java.awt.Rectangle;
+import java.awt.event.ComponentAdapter;
+import java.awt.event.ComponentEvent;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReentrantLock;
@@ -43,9 +46,14 @@ import de.dfki.km.text20.services.evaluators.gaze.GazeEvaluator;
 import de.dfki.km.text20.services.evaluators.gaze.GazeEvaluatorManager;
 import de.dfki.km.text20.services.evaluators.gaze.impl.GazeEvaluatorManagerImpl;
 import de.dfki.km.text20.services.evaluators.gaze.impl.handler.fixation.v1.FixationHandlerFactory;
+import de.dfki.km.text20.services.evaluators.gaze.impl.handler.fixationline.v4.FixationLineHandlerFactory;
+import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixation.Fixation;
 import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixation.FixationEvent;
 import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixation.FixationEventType;
 import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixation.FixationListener;
+import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixationline.FixationLineEvent;
+import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixationline.FixationLineListener;
+import de.dfki.km.text20.services.pseudorenderer.Pseudorenderer;
 import de.dfki.km.text20.services.trackingdevices.eyes.EyeTrackingDeviceProvider;
 import de.dfki.km.text20.services.trackingdevices.eyes.EyeTrackingEvent;
 import de.dfki.km.text20.services.trackingdevices.eyes.EyeTrackingListener;
@@ -95,6 +103,70 @@ public class EyeTrackingDevice {
     /** Current config */
     public final Config config = new Config();
 
+    /** Our current quality data, guarded by the precision lock */
+    final QualityStatistics quality = new QualityStatistics(new QualityData(), this.config);
+
+    /** Current gaze velocity, acceleration and saccade state */
+    public final Motion motion = new Motion();
+
+    /** Listeners interested in saccades */
+    final List<SaccadeListener> saccadeListeners = new CopyOnWriteArrayList<SaccadeListener>();
+
+    /** Computes the motion data from raw samples, guarded by precisionLock */
+    final SaccadeDetector saccadeDetector = new SaccadeDetector(this.motion, this.config, this.saccadeListeners);
+
+    /**
+     * Coherent snapshot of all tracking data, updated once per frame right before draw().
+     * Only valid in the animation thread.
+     */
+    public volatile FrameState frame = new FrameState();
+
+    /** The two frame states we alternate between; the one not published is written next */
+    final FrameState[] frameStates = { this.frame, new FrameState() };
+
+    /** Index of the frame state pre() fills next */
+    int nextFrameState = 1;
+
+    /** Number of times pre() ran */
+    int framesTaken = 0;
+
+    /** Last two valid raw positions and their local receive time (System.nanoTime()), guarded by precisionLock */
+    int lastRawX, lastRawY, previousRawX, previousRawY;
+
+    /** See above, 0 if there was no such sample */
+    long lastRawReceived, previousRawReceived;
+
+    /** Delivers gaze events to the sketch's gazeXXX() methods */
+    final SketchEvents sketchEvents;
+
+    /** Level of detail map around the gaze, if enabled in the config */
+    public final Foveation foveation = new Foveation(this.config);
+
+    /** Dwell time selection of registered targets */
+    public final Dwell dwell;
+
+    /** Reading state of registered text lines */
+    public final Reading reading = new Reading(this.config);
+
+    /**
+     * The sketch window's location and size on the screen; null if unknown. Replaced, never
+     * changed. Updated when the frame moves, every frame, and by the tracking threads once it
+     * is older than WINDOW_REFRESH, so noLoop() sketches and stalled draw()s work too.
+     */
+    volatile Rectangle window = null;
+
+    /** When window was last updated (System.currentTimeMillis()) */
+    volatile long windowUpdated = 0;
+
+    /** Max age (in ms) of window before the tracking threads update it themselves */
+    static final long WINDOW_REFRESH = 250;
+
+    /** Smooth the head position, guarded by precisionLock */
+    final MovingAverage headAverageX = new MovingAverage(), headAverageY = new MovingAverage(), headAverageZ = new MovingAverage();
+
+    /** Smooth the raw gaze, guarded by precisionLock */
+    final MovingAverage gazeAverageX = new MovingAverage(), gazeAverageY = new MovingAverage();
+
     /** Only true if the person is really looking at the application window */
     public volatile boolean isLooking = false;
 
@@ -105,9 +177,55 @@ public class EyeTrackingDevice {
      * @param theParent
      * @param instantSetup
      */
-    private EyeTrackingDevice(PApplet theParent, PluginManager pm) {
+    EyeTrackingDevice(PApplet theParent, PluginManager pm) {
+        this(theParent, pm, theParent);
+    }
+
+    /**
+     * Create an eye tracking device whose gaze events go to some other object than the
+     * parent, e.g. a stub without a window.
+     * 
+     * @param theParent
+     * @param pm
+     * @param sketch Gets the gaze event method calls
+     */
+    EyeTrackingDevice(PApplet theParent, PluginManager pm, Object sketch) {
         this.myParent = theParent;
         this.pluginManager = pm;
+        this.sketchEvents = new SketchEvents(sketch);
+        this.dwell = new Dwell(this.config, this.sketchEvents);
+
+        // Follow the window right away, not only when the next frame is drawn
+        if (theParent != null && theParent.frame != null) {
+            theParent.frame.addComponentListener(new ComponentAdapter() {
+
+                @Override
+                public void componentMoved(ComponentEvent e) {
+                    updateWindow();
+                }
+
+                @Override
+                public void componentResized(ComponentEvent e) {
+                    updateWindow();
+                }
+            });
+        }
+
+        // Only listen for saccades if the sketch cares
+        if (this.sketchEvents.wants(SketchEvents.SACCADE_START) || this.sketchEvents.wants(SketchEvents.SACCADE_END)) {
+            addSaccadeListener(new SaccadeListener() {
+
+                @Override
+                public void saccadeStarted(long time, int x, int y) {
+                    EyeTrackingDevice.this.sketchEvents.post(SketchEvents.SACCADE_START, x, y);
+                }
+
+                @Override
+                public void saccadeEnded(long time, int x, int y, float peakVelocity) {
+                    EyeTrackingDevice.this.sketchEvents.post(SketchEvents.SACCADE_END, x, y);
+                }
+            });
+        }
 
         this.currentStatus = "EyeTracking object successfully constructed. " + "Next setup() has to be called with the TrackingServer's IP " + "and port (like 'lipe://127.0.0.1:667'), or a discoverystring " + "has to be supplied (like 'discover://youngest'). If in doubt, " + "use the latter one.";
     }
@@ -147,91 +265,12 @@ public class EyeTrackingDevice {
 
                 EyeTrackingDevice.this.currentStatus = "Device setup complete. Connecting handler. This step must not fail. (Write to ralf.biedert@dfki.de)";
 
-                // Keeps the last head positions for smoothing
-                final List<float[]> headPositions = new ArrayList<float[]>();
-                final List<Point> gazePositions = new ArrayList<Point>();
-
-                // Get raw head data
+                // Get raw head and gaze data
                 device.addTrackingListener(new EyeTrackingListener() {
 
                     @Override
-                    @SuppressWarnings("unused")
                     public void newTrackingEvent(EyeTrackingEvent arg0) {
-
-                        // Upon a new tracking event, first check where we are on the screen
-                        Point location = null;
-                        Dimension size = new Dimension(0, 0);
-                        try {
-                            location = EyeTrackingDevice.this.myParent.frame.getLocationOnScreen();
-                            size = EyeTrackingDevice.this.myParent.frame.getSize();
-                        } catch (Exception e) {
-                            //
-                        }
-
-                        // Keep a constant size for our average
-                        if (headPositions.size() > EyeTrackingDevice.this.config.averagingHeadPositionSize)
-                            headPositions.remove(0);
-
-                        if (gazePositions.size() > EyeTrackingDevice.this.config.averagingRawGazeDataSize)
-                            gazePositions.remove(0);
-
-                        // Process head position
-                        float[] headPosition = arg0.getHeadPosition();
-                        float[] average = new float[3];
-
-                        headPositions.add(headPosition);
-
-                        // Compute average
-                        for (float[] fs : headPositions) {
-                            average[0] += fs[0];
-                            average[1] += fs[1];
-                            average[2] += fs[2];
-                        }
-
-                        for (int i = 0; i < average.length; i++) {
-                            average[i] /= headPositions.size();
-                        }
-
-                        // Update our data
-                        try {
-                            EyeTrackingDevice.this.precisionLock.lock();
-                            EyeTrackingDevice.this.currentPrecision.rawTime = arg0.getEventTime();
-                            EyeTrackingDevice.this.head.x = average[0];
-                            EyeTrackingDevice.this.head.y = average[1];
-                            EyeTrackingDevice.this.head.z = average[2];
-
-                            // Process eye positions
-                            Point gazeCenter = arg0.getGazeCenter();
-                            if (gazeCenter != null && gazeCenter.x > 0 && gazeCenter.y > 0) {
-                                gazePositions.add(gazeCenter);
-                                Point avg = new Point();
-
-                                for (Point point : gazePositions) {
-                                    avg.x += point.x;
-                                    avg.y += point.y;
-                                }
-
-                                avg.x /= gazePositions.size();
-                                avg.y /= gazePositions.size();
-
-                                if (location != null) {
-                                    EyeTrackingDevice.this.eyes.rawX = avg.x - location.x;
-                                    EyeTrackingDevice.this.eyes.rawY = avg.y - location.y;
-
-                                    EyeTrackingDevice.this.currentPrecision.rawX = EyeTrackingDevice.this.eyes.rawX;
-                                    EyeTrackingDevice.this.currentPrecision.rawY = EyeTrackingDevice.this.eyes.rawY;
-                                    EyeTrackingDevice.this.currentPrecision.rawValid = true;
-                                } else {
-                                    EyeTrackingDevice.this.currentPrecision.rawValid = false;
-                                }
-                            } else {
-                                EyeTrackingDevice.this.currentPrecision.rawValid = false;
-                            }
-
-                        } finally {
-                            EyeTrackingDevice.this.precisionLock.unlock();
-                        }
-
+                        processTrackingEvent(arg0);
                     }
                 });
 
@@ -243,72 +282,23 @@ public class EyeTrackingDevice {
 
                     @Override
                     public void newEvaluationEvent(FixationEvent arg0) {
-                        if (arg0.getType() != FixationEventType.FIXATION_START) return;
-                        EyeTrackingDevice.this.currentStatus = "We received fixations. All is fine now :-).";
-
-                        // Returns a position on the screen
-                        final Point center = arg0.getFixation().getCenter();
-
-                        // Convert it to the app window
-                        Point location = null;
-                        Dimension size = new Dimension(0, 0);
-
-                        try {
-                            EyeTrackingDevice.this.precisionLock.lock();
-                            EyeTrackingDevice.this.currentPrecision.fixationTime = arg0.getGenerationTime();
-
-                            location = EyeTrackingDevice.this.myParent.frame.getLocationOnScreen();
-                            size = EyeTrackingDevice.this.myParent.frame.getSize();
-
-                            // Check if there really is a location
-                            if (location == null) {
-                                // Can't be looking if there is no location on the screen
-                                EyeTrackingDevice.this.isLooking = false;
-                                EyeTrackingDevice.this.x = -1;
-                                EyeTrackingDevice.this.y = -1;
-
-                                EyeTrackingDevice.this.eyes.currentFixationX = -1;
-                                EyeTrackingDevice.this.eyes.currentFixationY = -1;
-
-                                EyeTrackingDevice.this.currentPrecision.fixationX = -1;
-                                EyeTrackingDevice.this.currentPrecision.fixationY = -1;
-                                EyeTrackingDevice.this.currentPrecision.fixationValid = false;
-
-                                return;
-                            }
-
-                            EyeTrackingDevice.this.x = center.x - location.x;
-                            EyeTrackingDevice.this.y = center.y - location.y;
-
-                            EyeTrackingDevice.this.eyes.currentFixationX = EyeTrackingDevice.this.x;
-                            EyeTrackingDevice.this.eyes.currentFixationY = EyeTrackingDevice.this.y;
-
-                            EyeTrackingDevice.this.currentPrecision.fixationX = EyeTrackingDevice.this.x;
-                            EyeTrackingDevice.this.currentPrecision.fixationY = EyeTrackingDevice.this.y;
-                            EyeTrackingDevice.this.currentPrecision.fixationValid = true;
-
-                            // Revoke our info in case its off on the right (lower) side
-                            if (EyeTrackingDevice.this.x >= size.width || EyeTrackingDevice.this.y >= size.height || EyeTrackingDevice.this.x < 0 || EyeTrackingDevice.this.y < 0) {
-                                EyeTrackingDevice.this.x = -1;
-                                EyeTrackingDevice.this.y = -1;
-                                EyeTrackingDevice.this.eyes.currentFixationX = -1;
-                                EyeTrackingDevice.this.eyes.currentFixationY = -1;
-                                EyeTrackingDevice.this.isLooking = false;
-
-                                EyeTrackingDevice.this.currentPrecision.fixationX = -1;
-                                EyeTrackingDevice.this.currentPrecision.fixationY = -1;
-                                EyeTrackingDevice.this.currentPrecision.fixationValid = false;
-
-                                return;
-                            }
-
-                            EyeTrackingDevice.this.isLooking = true;
-                        } catch (Exception e) {
-                             //
-                         } finally {
-                             EyeTrackingDevice.this.precisionLock.unlock();
-                         }
-                     }
+                        processFixationEvent(arg0);
+                    }
+                });
+
+                // Fixation lines drive the reading detection
+                gazeEvaluator.addEvaluationListener(new FixationLineListener() {
+
+                    @Override
+                    public void newEvaluationEvent(FixationLineEvent arg0) {
+                        processFixationLineEvent(arg0);
+                    }
+
+                    @Override
+                    public Pseudorenderer getPseudorenderer() {
+                        // The line handler does not need one, we map the lines ourselves
+                        return null;
+                    }
                 });
 
                 EyeTrackingDevice.this.currentStatus = "Your setup appears fine; however, we haven't received " + "any fixations yet. Either nobody is looking at the screen, " + "or the tracker does not see you. In case you're using a simulator then something is probably broken. Did you put debug() inside a loop and wait long enough?";
@@ -321,6 +311,257 @@ public class EyeTrackingDevice {
         this.currentStatus = "Function setup() completed, but the thread didn't come up. Critical error again. (Write to ralf.biedert@dfki.de)";
     }
 
+    /**
+     * Handles a raw tracking event. Called on the tracking thread for every sample, so
+     * nothing in here may allocate.
+     * 
+     * @param event
+     */
+    void processTrackingEvent(EyeTrackingEvent event) {
+        // Where we are on the screen
+        refreshWindow();
+        final Rectangle window = this.window;
+
+        // Process head position
+        final float[] headPosition = event.getHeadPosition();
+        final Point gazeCenter = event.getGazeCenter();
+
+        // Velocity and quality work on the unaveraged data, averaging would delay saccade onsets and hide noise
+        final boolean valid = gazeCenter != null && gazeCenter.x > 0 && gazeCenter.y > 0 && window != null;
+        final int gazeX = valid ? gazeCenter.x - window.x : -1;
+        final int gazeY = valid ? gazeCenter.y - window.y : -1;
+
+        // Averaged gaze as it ends up in eyes.rawX/Y
+        boolean smoothValid = false;
+        int smoothX = -1, smoothY = -1;
+
+        // Update our data
+        try {
+            this.precisionLock.lock();
+            this.currentPrecision.rawTime = event.getEventTime();
+
+            final int headSize = this.config.averagingHeadPositionSize;
+            this.head.x = this.headAverageX.add(headPosition[0], headSize);
+            this.head.y = this.headAverageY.add(headPosition[1], headSize);
+            this.head.z = this.headAverageZ.add(headPosition[2], headSize);
+
+            // Process eye positions
+            if (gazeCenter != null && gazeCenter.x > 0 && gazeCenter.y > 0) {
+                final int gazeSize = this.config.averagingRawGazeDataSize;
+                final int averageX = (int) this.gazeAverageX.add(gazeCenter.x, gazeSize);
+                final int averageY = (int) this.gazeAverageY.add(gazeCenter.y, gazeSize);
+
+                if (window != null) {
+                    this.eyes.rawX = averageX - window.x;
+                    this.eyes.rawY = averageY - window.y;
+
+                    this.currentPrecision.rawX = this.eyes.rawX;
+                    this.currentPrecision.rawY = this.eyes.rawY;
+                    this.currentPrecision.rawValid = true;
+
+                    // Keep the last two positions for frame interpolation
+                    this.previousRawX = this.lastRawX;
+                    this.previousRawY = this.lastRawY;
+                    this.previousRawReceived = this.lastRawReceived;
+                    this.lastRawX = this.eyes.rawX;
+                    this.lastRawY = this.eyes.rawY;
+                    this.lastRawReceived = System.nanoTime();
+
+                    if (this.eyes.rawX >= 0 && this.eyes.rawY >= 0 && this.eyes.rawX < window.width && this.eyes.rawY < window.height)
+                        this.sketchEvents.post(SketchEvents.SAMPLE, this.eyes.rawX, this.eyes.rawY);
+
+                    smoothValid = true;
+                    smoothX = this.eyes.rawX;
+                    smoothY = this.eyes.rawY;
+                } else {
+                    this.currentPrecision.rawValid = false;
+                }
+            } else {
+                this.currentPrecision.rawValid = false;
+            }
+
+            // Still under the lock, so a frame never pairs this sample with the last one's motion
+            if (valid) {
+                this.saccadeDetector.addSample(event.getEventTime(), gazeX, gazeY);
+            } else {
+                this.saccadeDetector.invalidSample();
+            }
+
+            // The saccade state is that of the kernel center; quality delays the samples to match
+            this.quality.sample(valid, gazeX, gazeY, this.motion.inSaccade);
+        } finally {
+            this.precisionLock.unlock();
+        }
+
+        // Dwell timers run on sample time, whatever the sketch's frame rate
+        this.dwell.sample(event.getEventTime(), smoothValid, smoothX, smoothY);
+    }
+
+    /**
+     * Handles a fixation event. Called on the evaluator thread.
+     * 
+     * @param event
+     */
+    void processFixationEvent(FixationEvent event) {
+        refreshWindow();
+
+        // Finished fixations only go into the statistics
+        if (event.getType() == FixationEventType.FIXATION_END) {
+            final List<EyeTrackingEvent> events = event.getFixation().getTrackingEvents();
+            if (events == null || events.size() < 2) return;
+
+            try {
+                this.precisionLock.lock();
+                this.quality.fixationEnded(events.get(events.size() - 1).getEventTime() - events.get(0).getEventTime());
+            } finally {
+                this.precisionLock.unlock();
+            }
+            return;
+        }
+
+        if (event.getType() != FixationEventType.FIXATION_START) return;
+        this.currentStatus = "We received fixations. All is fine now :-).";
+
+        // Returns a position on the screen
+        final Point center = event.getFixation().getCenter();
+        final boolean wasLooking = this.isLooking;
+
+        // Convert it to the app window
+        final Rectangle window = this.window;
+
+        try {
+            this.precisionLock.lock();
+            this.currentPrecision.fixationTime = event.getGenerationTime();
+
+            // Check if there really is a location
+            if (window == null) {
+                // Can't be looking if there is no location on the screen
+                this.isLooking = false;
+                this.x = -1;
+                this.y = -1;
+
+                this.eyes.currentFixationX = -1;
+                this.eyes.currentFixationY = -1;
+
+                this.currentPrecision.fixationX = -1;
+                this.currentPrecision.fixationY = -1;
+                this.currentPrecision.fixationValid = false;
+
+                return;
+            }
+
+            this.x = center.x - window.x;
+            this.y = center.y - window.y;
+
+            this.eyes.currentFixationX = this.x;
+            this.eyes.currentFixationY = this.y;
+
+            this.currentPrecision.fixationX = this.x;
+            this.currentPrecision.fixationY = this.y;
+            this.currentPrecision.fixationValid = true;
+
+            this.quality.fixation(this.x, this.y);
+
+            // Revoke our info in case its off on the right (lower) side
+            if (this.x >= window.width || this.y >= window.height || this.x < 0 || this.y < 0) {
+                this.x = -1;
+                this.y = -1;
+                this.eyes.currentFixationX = -1;
+                this.eyes.currentFixationY = -1;
+                this.isLooking = false;
+
+                this.currentPrecision.fixationX = -1;
+                this.currentPrecision.fixationY = -1;
+                this.currentPrecision.fixationValid = false;
+
+                return;
+            }
+
+            this.isLooking = true;
+        } catch (Exception e) {
+            //
+        } finally {
+            this.precisionLock.unlock();
+
+            // The sketch gets these in its next frame
+            final boolean looking = this.isLooking;
+            if (looking != wasLooking) this.sketchEvents.post(looking ? SketchEvents.ENTER : SketchEvents.LEAVE, 0, 0);
+            if (looking) this.sketchEvents.post(SketchEvents.FIXATION, this.x, this.y);
+        }
+    }
+
+    /**
+     * Handles a fixation line event. Called on the evaluator thread.
+     * 
+     * @param event
+     */
+    void processFixationLineEvent(FixationLineEvent event) {
+        refreshWindow();
+
+        final List<Fixation> fixations = event.getFixationLine().getFixations();
+        final Rectangle window = this.window;
+
+        switch (event.getEventType()) {
+        case FIXATION_LINE_STARTED:
+            if (window == null) return;
+
+            // A new line already comes with its first few fixations
+            for (int i = 0; i < fixations.size(); i++) {
+                final Point center = fixations.get(i).getCenter();
+                this.reading.nextFixation(center.x - window.x, center.y - window.y);
+            }
+            return;
+
+        case FIXATION_LINE_CONTINUED:
+            if (window == null || fixations.isEmpty()) return;
+
+            // Only the newest fixation is new to us
+            final Point center = fixations.get(fixations.size() - 1).getCenter();
+            this.reading.nextFixation(center.x - window.x, center.y - window.y);
+            return;
+
+        case FIXATION_LINE_ENDED:
+            this.reading.fixationLineEnded();
+            return;
+
+        default:
+            return;
+        }
+    }
+
+    /**
+     * Remembers where the sketch window is on the screen, so the tracking threads don't have
+     * to ask AWT for every sample. Called on the animation thread, the AWT thread when the
+     * frame moves, and the tracking threads if the window got old.
+     */
+    void updateWindow() {
+        this.windowUpdated = System.currentTimeMillis();
+
+        try {
+            final Point location = this.myParent.frame.getLocationOnScreen();
+            final Dimension size = this.myParent.frame.getSize();
+            final Rectangle window = this.window;
+
+            // Only replace it if it moved, the tracking threads read it without locking
+            if (window == null || window.x != location.x || window.y != location.y || window.width != size.width || window.height != size.height)
+                this.window = new Rectangle(location, size);
+        } catch (Exception e) {
+            // Not on the screen (yet)
+            this.window = null;
+        }
+    }
+
+    /**
+     * Updates the window if pre() did not do so lately, e.g. in noLoop() sketches. Does not
+     * allocate unless it actually asks AWT, which happens at most every WINDOW_REFRESH ms.
+     */
+    void refreshWindow() {
+        if (this.myParent == null) return;
+        if (System.currentTimeMillis() - this.windowUpdated < WINDOW_REFRESH) return;
+
+        updateWindow();
+    }
+
     /**
      * return the version of the library.
      * 
@@ -330,6 +571,87 @@ public class EyeTrackingDevice {
         return this.VERSION;
     }
 
+    /**
+     * Called by Processing before each draw(), do not call this yourself. Takes a coherent
+     * snapshot of the tracking data, publishes it as the current frame and then calls the
+     * sketch's gaze event methods (gazeFixation(int x, int y), gazeEnter(), gazeLeave(),
+     * gazeSample(int x, int y), gazeSaccadeStart(int x, int y), gazeSaccadeEnd(int x, int y),
+     * gazeSelect(int target)) for all events that arrived since the last frame.
+     */
+    public void pre() {
+        final FrameState state = this.frameStates[this.nextFrameState];
+
+        if (this.myParent != null) updateWindow();
+
+        state.frameCount = this.myParent != null ? this.myParent.frameCount : this.framesTaken;
+        this.framesTaken++;
+        state.time = System.currentTimeMillis();
+
+        try {
+            this.precisionLock.lock();
+
+            state.x = this.x;
+            state.y = this.y;
+            state.isLooking = this.isLooking;
+            state.fixationTime = this.currentPrecision.fixationTime;
+            state.rawX = this.eyes.rawX;
+            state.rawY = this.eyes.rawY;
+            state.rawValid = this.currentPrecision.rawValid;
+            state.rawTime = this.currentPrecision.rawTime;
+            state.headX = this.head.x;
+            state.headY = this.head.y;
+            state.headZ = this.head.z;
+            state.velocity = this.motion.velocity;
+            state.inSaccade = this.motion.inSaccade;
+
+            // Move the gaze along its last direction to where it should be when the frame is shown
+            if (this.config.frameInterpolation && state.rawValid && this.previousRawReceived != 0) {
+                final long interval = this.lastRawReceived - this.previousRawReceived;
+                final long ahead = System.nanoTime() + this.config.frameDisplayLatency * 1000000L - this.lastRawReceived;
+
+                if (interval > 0 && ahead > 0) {
+                    // Never extrapolate further than one sample
+                    final float f = Math.min((float) ahead / interval, 1f);
+                    state.rawX = Math.round(this.lastRawX + f * (this.lastRawX - this.previousRawX));
+                    state.rawY = Math.round(this.lastRawY + f * (this.lastRawY - this.previousRawY));
+                }
+            }
+        } finally {
+            this.precisionLock.unlock();
+        }
+
+        this.frame = state;
+        this.nextFrameState = 1 - this.nextFrameState;
+
+        if (this.config.foveation) {
+            final Rectangle window = this.window;
+            if (this.myParent != null) this.foveation.update(state, this.myParent.width, this.myParent.height);
+            else if (window != null) this.foveation.update(state, window.width, window.height);
+        }
+
+        // Now that the frame is set, call the sketch's gaze methods for everything since the last one
+        this.sketchEvents.dispatch();
+    }
+
+    /**
+     * Registers a listener that is informed about saccade onsets and offsets. The listener
+     * is called on the tracking thread.
+     * 
+     * @param listener
+     */
+    public void addSaccadeListener(SaccadeListener listener) {
+        this.saccadeListeners.add(listener);
+    }
+
+    /**
+     * Removes a previously added saccade listener.
+     * 
+     * @param listener
+     */
+    public void removeSaccadeListener(SaccadeListener listener) {
+        this.saccadeListeners.remove(listener);
+    }
+
     /**
      * Returns the curren precision object
      * 
@@ -344,6 +666,60 @@ public class EyeTrackingDevice {
         }
     }
 
+    /**
+     * Returns the current quality object, computed over the last few samples and fixations.
+     * 
+     * @return QualityData
+     */
+    public QualityData qualityData() {
+        try {
+            this.precisionLock.lock();
+            return (QualityData) this.quality.data.clone();
+        } finally {
+            this.precisionLock.unlock();
+        }
+    }
+
+    /**
+     * Returns how many gaze events were dropped because draw() did not keep up. Samples are
+     * dropped first, gazeFixation(), gazeEnter(), gazeLeave() and gazeSelect() only once
+     * the queue is full anyway.
+     * 
+     * @return Number of dropped events since the start.
+     */
+    public long droppedEvents() {
+        return this.sketchEvents.dropped();
+    }
+
+    /**
+     * Starts measuring the accuracy against a target you show at the given window position.
+     * Until the next call or clearValidationTarget(), all fixations are compared to it (see
+     * QualityData.accuracy).
+     * 
+     * @param x
+     * @param y
+     */
+    public void validationTarget(int x, int y) {
+        try {
+            this.precisionLock.lock();
+            this.quality.setTarget(x, y);
+        } finally {
+            this.precisionLock.unlock();
+        }
+    }
+
+    /**
+     * Stops measuring the accuracy. The last accuracy values are kept.
+     */
+    public void clearValidationTarget() {
+        try {
+            this.precisionLock.lock();
+            this.quality.clearTarget();
+        } finally {
+            this.precisionLock.unlock();
+        }
+    }
+
     /**
      * Returns a device
      * 
@@ -385,10 +761,14 @@ public class EyeTrackingDevice {
         pm.addPluginsFrom(new ClassURI(TrackingServerDeviceProviderImpl.class).toURI());
         pm.addPluginsFrom(new ClassURI(GazeEvaluatorManagerImpl.class).toURI());
         pm.addPluginsFrom(new ClassURI(FixationHandlerFactory.class).toURI());
+        pm.addPluginsFrom(new ClassURI(FixationLineHandlerFactory.class).toURI());
 
         // And spawn the module
         final EyeTrackingDevice device = new EyeTrackingDevice(applet, pm);
 
+        // Get our per frame snapshot taken
+        if (applet != null) applet.registerPre(device);
+
         if (address != null) device.setup(address);
 
         return device;
@@ -0,0 +1,241 @@
+/*
+ * Foveation.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+import java.util.Arrays;
+
+/**
+ * Level of detail map of the window for gaze contingent rendering. The window is split into
+ * square tiles; each frame every tile gets a level, 0 being full detail around the gaze,
+ * each further level meaning the tile is (roughly) twice as far away. Render tiles with a
+ * high level coarser, or skip them. Enable it with config.foveation; use it in draw() only.
+ *
+ * If the gaze is lost for longer than config.foveationGrace (blinks are shorter) all tiles
+ * are level 0, so nothing gets degraded by accident.
+ */
+public class Foveation {
+    /** Our config */
+    private final Config config;
+
+    /** Tile size this map was built with */
+    private int tileSize = 0;
+
+    /** Grid dimensions */
+    private int columns = 0, rows = 0;
+
+    /** Current level per tile, row major */
+    private byte[] levels = new byte[0];
+
+    /** Current full detail radius; 0 if there is no gaze */
+    private float radius;
+
+    /** Frame time of the last frame with gaze */
+    private long lastValid;
+
+    /**
+     * @param config
+     */
+    Foveation(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * Recomputes the map. Called once per frame in pre().
+     *
+     * @param state The current frame
+     * @param width Window width
+     * @param height Window height
+     */
+    void update(FrameState state, int width, int height) {
+        final int size = Math.max(this.config.foveationTileSize, 1);
+        final int columns = (width + size - 1) / size;
+        final int rows = (height + size - 1) / size;
+
+        // Window or tile size changed, start over with full detail
+        if (size != this.tileSize || columns != this.columns || rows != this.rows) {
+            this.tileSize = size;
+            this.columns = columns;
+            this.rows = rows;
+            this.levels = new byte[columns * rows];
+        }
+
+        if (!state.rawValid) {
+            // Blinks keep the last map, only a longer loss falls back to full detail
+            if (this.radius > 0 && state.time - this.lastValid <= this.config.foveationGrace) return;
+
+            this.radius = 0;
+            Arrays.fill(this.levels, (byte) 0);
+            return;
+        }
+
+        this.lastValid = state.time;
+
+        // The further away the head, the more pixels the fovea covers
+        float radius = this.config.foveationRadius;
+        if (state.headZ > 0 && this.config.foveationReferenceHeadZ > 0)
+            radius *= state.headZ / this.config.foveationReferenceHeadZ;
+
+        this.radius = Math.max(radius, 1);
+
+        final int maxLevel = Math.max(this.config.foveationLevels - 1, 0);
+        final float hysteresis = 1 + Math.max(this.config.foveationHysteresis, 0);
+
+        for (int row = 0; row < rows; row++) {
+            // Distance to the nearest point of the tile, so tiles touching the fovea stay sharp
+            final float dy = distance(state.rawY, row * size, size);
+
+            for (int column = 0; column < columns; column++) {
+                final float dx = distance(state.rawX, column * size, size);
+                final float d = (float) Math.sqrt(dx * dx + dy * dy);
+                final int i = row * columns + column;
+
+                // More detail is given immediately, less only once clearly past the border
+                final int sharper = level(d, maxLevel);
+                if (sharper <= this.levels[i]) {
+                    this.levels[i] = (byte) sharper;
+                    continue;
+                }
+
+                final int coarser = level(d / hysteresis, maxLevel);
+                if (coarser > this.levels[i]) this.levels[i] = (byte) coarser;
+            }
+        }
+    }
+
+    /**
+     * @param x Window position
+     * @param y Window position
+     * @return The level at the given position, 0 outside of the window.
+     */
+    public int level(int x, int y) {
+        if (x < 0 || y < 0 || this.tileSize == 0) return 0;
+
+        final int column = x / this.tileSize;
+        final int row = y / this.tileSize;
+        if (column >= this.columns || row >= this.rows) return 0;
+
+        return this.levels[row * this.columns + column];
+    }
+
+    /**
+     * Returns the lowest (most detailed) level of all tiles the given rectangle touches, so
+     * an element can be drawn with one level of detail.
+     *
+     * @param x
+     * @param y
+     * @param width
+     * @param height
+     * @return The level of detail the rectangle needs.
+     */
+    public int level(int x, int y, int width, int height) {
+        if (this.tileSize == 0) return 0;
+        if (x + width <= 0 || y + height <= 0) return 0;
+
+        final int c0 = Math.max(x / this.tileSize, 0);
+        final int r0 = Math.max(y / this.tileSize, 0);
+        final int c1 = Math.min((x + width - 1) / this.tileSize, this.columns - 1);
+        final int r1 = Math.min((y + height - 1) / this.tileSize, this.rows - 1);
+
+        int level = Integer.MAX_VALUE;
+        for (int row = r0; row <= r1; row++) {
+            for (int column = c0; column <= c1; column++) {
+                level = Math.min(level, this.levels[row * this.columns + column]);
+                if (level == 0) return 0;
+            }
+        }
+
+        // Nothing of it inside the window
+        return level == Integer.MAX_VALUE ? 0 : level;
+    }
+
+    /**
+     * @param column
+     * @param row
+     * @return The level of the given tile.
+     */
+    public int tileLevel(int column, int row) {
+        return this.levels[row * this.columns + column];
+    }
+
+    /**
+     * @return The tile size in pixels.
+     */
+    public int tileSize() {
+        return this.tileSize;
+    }
+
+    /**
+     * @return Number of tile columns.
+     */
+    public int columns() {
+        return this.columns;
+    }
+
+    /**
+     * @return Number of tile rows.
+     */
+    public int rows() {
+        return this.rows;
+    }
+
+    /**
+     * @return The radius (in pixels) of the full detail area, 0 if there is no gaze.
+     */
+    public float radius() {
+        return this.radius;
+    }
+
+    /**
+     * @param d Distance from the gaze
+     * @param maxLevel
+     * @return The level for the given distance.
+     */
+    private int level(float d, int maxLevel) {
+        int level = 0;
+        float border = this.radius;
+
+        while (d > border && level < maxLevel) {
+            level++;
+            border *= 2;
+        }
+
+        return level;
+    }
+
+    /**
+     * @param p Point on one axis
+     * @param start Tile start on that axis
+     * @param size Tile size
+     * @return Distance from p to the tile on that axis.
+     */
+    private static float distance(float p, int start, int size) {
+        if (p < start) return start - p;
+        if (p > start + size) return p - start - size;
+        return 0;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * FrameState.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+/**
+ * All tracking data for one frame, taken at once right before draw(). Unlike reading
+ * device.x, device.head, ... one after another, the values in here are always coherent.
+ * Read it through device.frame; the object is reused two frames later, so do not keep it
+ * around.
+ */
+public class FrameState {
+    /** The sketch's frameCount this state was taken for */
+    public int frameCount = -1;
+
+    /** Local time (System.currentTimeMillis()) this state was taken at */
+    public long time;
+
+    /** Fixation x position, -1 if not looking (same as device.x) */
+    public int x = -1;
+
+    /** Fixation y position, -1 if not looking (same as device.y) */
+    public int y = -1;
+
+    /** Same as device.isLooking */
+    public boolean isLooking;
+
+    /** Event time of the fixation */
+    public long fixationTime;
+
+    /** Averaged raw gaze x position; interpolated if enabled in the config */
+    public int rawX;
+
+    /** Averaged raw gaze y position; interpolated if enabled in the config */
+    public int rawY;
+
+    /** True if the raw gaze position is valid */
+    public boolean rawValid;
+
+    /** Event time of the newest raw sample */
+    public long rawTime;
+
+    /** Head position (see Head) */
+    public float headX, headY, headZ;
+
+    /** Gaze velocity in pixels per second (see Motion) */
+    public float velocity;
+
+    /** True while the eyes are in a saccade */
+    public boolean inSaccade;
+}
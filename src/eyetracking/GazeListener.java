@@ -0,0 +1,85 @@
+/*
+ * GazeListener.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+/**
+ * Optional interface for sketches that want their gaze event methods called directly.
+ * Sketches that just define some of the methods get them called by reflection instead,
+ * which costs more and boxes the arguments. Called on the animation thread right before
+ * draw(), like the plain methods.
+ */
+public interface GazeListener {
+    /**
+     * A fixation started inside the window.
+     *
+     * @param x Window relative
+     * @param y Window relative
+     */
+    public void gazeFixation(int x, int y);
+
+    /**
+     * The gaze entered the window.
+     */
+    public void gazeEnter();
+
+    /**
+     * The gaze left the window.
+     */
+    public void gazeLeave();
+
+    /**
+     * A new raw sample inside the window.
+     *
+     * @param x Window relative, averaged
+     * @param y Window relative, averaged
+     */
+    public void gazeSample(int x, int y);
+
+    /**
+     * A saccade started.
+     *
+     * @param x Window relative
+     * @param y Window relative
+     */
+    public void gazeSaccadeStart(int x, int y);
+
+    /**
+     * A saccade ended.
+     *
+     * @param x Window relative
+     * @param y Window relative
+     */
+    public void gazeSaccadeEnd(int x, int y);
+
+    /**
+     * A dwell target was selected.
+     *
+     * @param target The id device.dwell returned for the target
+     */
+    public void gazeSelect(int target);
+}
@@ -0,0 +1,70 @@
+/*
+ * MovingAverage.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+/**
+ * Average of the last few values, kept in a ring. Only allocates when the size changes.
+ */
+class MovingAverage {
+    /** The last values */
+    private float[] values = new float[0];
+
+    /** Where the next value goes */
+    private int next = 0;
+
+    /** Number of values in the ring */
+    private int count = 0;
+
+    /**
+     * Adds a value.
+     *
+     * @param value
+     * @param size Number of values to average; the ring is emptied if this changes.
+     * @return The average of the last size values, including this one.
+     */
+    float add(float value, int size) {
+        size = Math.max(size, 1);
+        if (size != this.values.length) {
+            this.values = new float[size];
+            this.next = 0;
+            this.count = 0;
+        }
+
+        this.values[this.next] = value;
+        this.next = (this.next + 1) % size;
+        if (this.count < size) this.count++;
+
+        // Summing up each time is cheap for small sizes and does not drift
+        float sum = 0;
+        for (int i = 0; i < this.count; i++) {
+            sum += this.values[i];
+        }
+
+        return sum / this.count;
+    }
+}
@@ -33,7 +33,8 @@ import java.io.Serializable;
  * The precision data object ensures that all the data you receive is coherent.
  * Using device.x, device.raw, ... directy might yield might sometimes yield
  * incoherent data due to threading issues (the issue is not really important for
- * simple interactive applications).
+ * simple interactive applications). Inside draw(), device.frame gives you the same
+ * guarantee without creating a new object every time.
  * 
  * @author Ralf Biedert
  */
@@ -0,0 +1,109 @@
+/*
+ * QualityData.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+import java.io.Serializable;
+
+/**
+ * Live tracking quality, computed over the last few samples and fixations (see
+ * Config.qualitySampleWindow and Config.qualityFixationWindow). All distances are in
+ * pixels, all durations in milliseconds. Like PrecisionData, the object you get from
+ * device.qualityData() is a coherent copy.
+ */
+public class QualityData implements Serializable, Cloneable {
+    /** */
+    private static final long serialVersionUID = 6120483727398761144L;
+
+    /** Width of one fixationDurations bin */
+    public static final int FIXATION_DURATION_BIN = 50;
+
+    /** Number of raw samples in the window */
+    public int samples;
+
+    /** Fraction of the samples in the window that were valid */
+    public float validRatio;
+
+    /** Root mean square of the distances between successive valid samples (outside of saccades) */
+    public float precisionRms;
+
+    /** Standard deviation of the valid samples' x positions around their fixation's mean, pooled over the fixations */
+    public float precisionStdX;
+
+    /** Standard deviation of the valid samples' y positions around their fixation's mean, pooled over the fixations */
+    public float precisionStdY;
+
+    /** Number of fixations in the window */
+    public int fixations;
+
+    /** Mean fixation duration */
+    public float fixationDurationMean;
+
+    /** Standard deviation of the fixation durations */
+    public float fixationDurationStd;
+
+    /**
+     * Distribution of the fixation durations in the window. Bin i counts fixations lasting
+     * i * FIXATION_DURATION_BIN up to (i + 1) * FIXATION_DURATION_BIN, the last bin
+     * everything longer.
+     */
+    public int[] fixationDurations = new int[20];
+
+    /** True while a validation target is set */
+    public boolean validating;
+
+    /** Number of fixations measured against the current validation target */
+    public int accuracySamples;
+
+    /** Mean x offset of the fixations from the validation target */
+    public float accuracyX;
+
+    /** Mean y offset of the fixations from the validation target */
+    public float accuracyY;
+
+    /** Mean distance of the fixations from the validation target */
+    public float accuracy;
+
+    /** Standard deviation of the distance of the fixations from the validation target */
+    public float accuracyStd;
+
+    /* (non-Javadoc)
+     * @see java.lang.Object#clone()
+     */
+    @Override
+    protected Object clone() {
+        try {
+            final QualityData clone = (QualityData) super.clone();
+            clone.fixationDurations = this.fixationDurations.clone();
+            return clone;
+        } catch (CloneNotSupportedException e) {
+            e.printStackTrace();
+        }
+
+        return null;
+    }
+}
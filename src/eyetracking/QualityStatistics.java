@@ -0,0 +1,283 @@
+/*
+ * QualityStatistics.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+import java.util.Arrays;
+
+/**
+ * Updates a QualityData object from the listener path, in constant time per sample and
+ * fixation. Must be called with the precision lock held.
+ */
+class QualityStatistics {
+    /** Samples the saccade state lags behind the newest sample */
+    static final int DELAY = SaccadeDetector.KERNEL_SIZE / 2;
+
+    /** Where we write our results */
+    final QualityData data;
+
+    /** Our config */
+    private final Config config;
+
+    /** 1 for valid samples, 0 for invalid ones */
+    private final SlidingStatistics validity;
+
+    /** Squared distances between successive samples */
+    private final SlidingStatistics sampleToSample;
+
+    /** Welford increments of the positions within their fixation, summing up to each fixation's squared deviations */
+    private final SlidingStatistics deviationsX, deviationsY;
+
+    /** 1 for samples starting a fixation, 0 otherwise */
+    private final SlidingStatistics fixationStarts;
+
+    /** Fixation durations */
+    private final SlidingStatistics durations;
+
+    /** True if the last sample can be used as predecessor */
+    private boolean hasLast = false;
+
+    /** Last sample */
+    private int lastX, lastY;
+
+    /** Samples in the current fixation */
+    private int fixationSamples;
+
+    /** Mean position of the current fixation */
+    private double fixationMeanX, fixationMeanY;
+
+    /** Valid samples waiting for their saccade state, oldest at pendingStart */
+    private final int[] pendingX = new int[DELAY + 1], pendingY = new int[DELAY + 1];
+
+    /** Ring position and fill of the pending samples */
+    private int pendingStart, pendingCount;
+
+    /** Valid samples since the last gap */
+    private int validRun;
+
+    /** Current validation target */
+    private int targetX, targetY;
+
+    /** Running sums for the accuracy, reset with each target */
+    private double sumDX, sumDY, distanceMean, distanceM2;
+
+    /**
+     * @param data
+     * @param config
+     */
+    QualityStatistics(QualityData data, Config config) {
+        this.data = data;
+        this.config = config;
+        this.validity = new SlidingStatistics(config.qualitySampleWindow);
+        this.sampleToSample = new SlidingStatistics(config.qualitySampleWindow);
+        this.deviationsX = new SlidingStatistics(config.qualitySampleWindow);
+        this.deviationsY = new SlidingStatistics(config.qualitySampleWindow);
+        this.fixationStarts = new SlidingStatistics(config.qualitySampleWindow);
+        this.durations = new SlidingStatistics(config.qualityFixationWindow);
+    }
+
+    /**
+     * Adds a raw sample. The saccade detector only knows the state of the sample DELAY
+     * samples back, so samples are held back until their own state is known; otherwise the
+     * first samples of each saccade would count as noise. Samples next to a gap never get a
+     * state (a blink may well be in the middle of a saccade), so they are left out of the
+     * precision.
+     *
+     * @param valid
+     * @param x Window relative, unaveraged
+     * @param y Window relative, unaveraged
+     * @param inSaccade Saccade state of the valid sample DELAY samples before this one
+     */
+    void sample(boolean valid, int x, int y, boolean inSaccade) {
+        if (!valid) {
+            // The detector starts over, the waiting samples will never get their state
+            while (this.pendingCount > 0) {
+                account(true, this.pendingX[this.pendingStart], this.pendingY[this.pendingStart], true);
+                this.pendingStart = (this.pendingStart + 1) % this.pendingX.length;
+                this.pendingCount--;
+            }
+
+            this.validRun = 0;
+            account(false, 0, 0, false);
+            return;
+        }
+
+        final int slot = (this.pendingStart + this.pendingCount) % this.pendingX.length;
+        this.pendingX[slot] = x;
+        this.pendingY[slot] = y;
+        this.pendingCount++;
+        this.validRun++;
+
+        if (this.pendingCount <= DELAY) return;
+
+        // Until the detector's kernel is full again the state is unknown, count it as saccade
+        final boolean known = this.validRun >= SaccadeDetector.KERNEL_SIZE;
+        account(true, this.pendingX[this.pendingStart], this.pendingY[this.pendingStart], inSaccade || !known);
+        this.pendingStart = (this.pendingStart + 1) % this.pendingX.length;
+        this.pendingCount--;
+    }
+
+    /**
+     * Adds a sample whose saccade state is known. The spread is measured around the mean of
+     * the fixation the sample belongs to, so moving between fixations does not count as
+     * noise. A fixation ends with a saccade, lost tracking or a fixationEnded().
+     *
+     * @param valid
+     * @param x
+     * @param y
+     * @param inSaccade Saccades (and samples of unknown state) are no noise, so they do not
+     *            count for the precision
+     */
+    private void account(boolean valid, int x, int y, boolean inSaccade) {
+        final int window = this.config.qualitySampleWindow;
+        if (window != this.validity.size()) {
+            this.validity.reset(window);
+            this.sampleToSample.reset(window);
+            this.deviationsX.reset(window);
+            this.deviationsY.reset(window);
+            this.fixationStarts.reset(window);
+            this.hasLast = false;
+        }
+
+        this.validity.add(valid ? 1 : 0);
+
+        if (valid && !inSaccade) {
+            if (this.hasLast) {
+                final double dx = x - this.lastX, dy = y - this.lastY;
+                this.sampleToSample.add(dx * dx + dy * dy);
+            } else {
+                this.fixationSamples = 0;
+                this.fixationMeanX = this.fixationMeanY = 0;
+            }
+
+            // Welford per fixation; the increments of one fixation add up to its squared deviations
+            final int n = ++this.fixationSamples;
+            final double dx = x - this.fixationMeanX, dy = y - this.fixationMeanY;
+            this.fixationMeanX += dx / n;
+            this.fixationMeanY += dy / n;
+            this.deviationsX.add(dx * (x - this.fixationMeanX));
+            this.deviationsY.add(dy * (y - this.fixationMeanY));
+            this.fixationStarts.add(n == 1 ? 1 : 0);
+            this.lastX = x;
+            this.lastY = y;
+            this.hasLast = true;
+        } else {
+            this.hasLast = false;
+        }
+
+        this.data.samples = this.validity.count();
+        this.data.validRatio = (float) this.validity.mean();
+        this.data.precisionRms = (float) Math.sqrt(this.sampleToSample.mean());
+
+        // Pooled variance: squared deviations over samples minus fixations in the window
+        final double degrees = 1 - this.fixationStarts.mean();
+        this.data.precisionStdX = degrees > 0 ? (float) Math.sqrt(Math.max(this.deviationsX.mean() / degrees, 0)) : 0;
+        this.data.precisionStdY = degrees > 0 ? (float) Math.sqrt(Math.max(this.deviationsY.mean() / degrees, 0)) : 0;
+    }
+
+    /**
+     * Adds the duration of a finished fixation.
+     *
+     * @param duration
+     */
+    void fixationEnded(long duration) {
+        // The next sample starts a new fixation
+        this.hasLast = false;
+
+        final int window = this.config.qualityFixationWindow;
+        if (window != this.durations.size()) {
+            this.durations.reset(window);
+            Arrays.fill(this.data.fixationDurations, 0);
+        }
+
+        final double dropped = this.durations.add(duration);
+        if (!Double.isNaN(dropped)) this.data.fixationDurations[bin((long) dropped)]--;
+        this.data.fixationDurations[bin(duration)]++;
+
+        this.data.fixations = this.durations.count();
+        this.data.fixationDurationMean = (float) this.durations.mean();
+        this.data.fixationDurationStd = (float) Math.sqrt(this.durations.variance());
+    }
+
+    /**
+     * Adds a fixation; counts for the accuracy if a validation target is set.
+     *
+     * @param x Window relative
+     * @param y Window relative
+     */
+    void fixation(int x, int y) {
+        if (!this.data.validating) return;
+
+        final double dx = x - this.targetX, dy = y - this.targetY;
+        final double distance = Math.sqrt(dx * dx + dy * dy);
+        final int n = ++this.data.accuracySamples;
+
+        this.sumDX += dx;
+        this.sumDY += dy;
+
+        final double delta = distance - this.distanceMean;
+        this.distanceMean += delta / n;
+        this.distanceM2 += delta * (distance - this.distanceMean);
+
+        this.data.accuracyX = (float) (this.sumDX / n);
+        this.data.accuracyY = (float) (this.sumDY / n);
+        this.data.accuracy = (float) this.distanceMean;
+        this.data.accuracyStd = (float) Math.sqrt(this.distanceM2 / n);
+    }
+
+    /**
+     * Starts measuring the accuracy against a new target.
+     *
+     * @param x Window relative
+     * @param y Window relative
+     */
+    void setTarget(int x, int y) {
+        this.targetX = x;
+        this.targetY = y;
+        this.sumDX = this.sumDY = this.distanceMean = this.distanceM2 = 0;
+
+        this.data.validating = true;
+        this.data.accuracySamples = 0;
+        this.data.accuracyX = this.data.accuracyY = this.data.accuracy = this.data.accuracyStd = 0;
+    }
+
+    /**
+     * Stops measuring the accuracy. The last results stay in the data.
+     */
+    void clearTarget() {
+        this.data.validating = false;
+    }
+
+    /**
+     * @param duration
+     * @return The histogram bin of the duration.
+     */
+    private int bin(long duration) {
+        final int bins = this.data.fixationDurations.length;
+        return (int) Math.max(0, Math.min(bins - 1, duration / QualityData.FIXATION_DURATION_BIN));
+    }
+}
@@ -0,0 +1,439 @@
+/*
+ * Reading.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+import java.util.Arrays;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Keeps track of which registered text lines and words have been read. Register the
+ * geometry of your text lines (in window coordinates) with registerLine(); fixation lines
+ * detected by the tracker are then mapped onto them, one fixation at a time.
+ */
+public class Reading {
+    /** Line or word was not looked at yet */
+    public static final int UNSEEN = 0;
+
+    /** Line or word was jumped over while reading around it */
+    public static final int SKIPPED = 1;
+
+    /** Line or word was looked at briefly, with large jumps */
+    public static final int SKIMMED = 2;
+
+    /** Line or word was read */
+    public static final int READ = 3;
+
+    /** Guards all arrays */
+    final Lock lock = new ReentrantLock();
+
+    /** Our config */
+    private final Config config;
+
+    /** Number of registered lines */
+    private int lineCount = 0;
+
+    /** Line geometry, indexed by line */
+    private int[] lineX = new int[16], lineY = new int[16], lineWidth = new int[16], lineHeight = new int[16];
+
+    /** Index of the first word of each line and number of words it has */
+    private int[] lineFirstWord = new int[16], lineWords = new int[16];
+
+    /** Number of words per line that are READ, or at least SKIMMED */
+    private int[] lineReadWords = new int[16], lineSeenWords = new int[16];
+
+    /** State of each line */
+    private byte[] lineState = new byte[16];
+
+    /** Line indices ordered by their y position */
+    private int[] lineOrder = new int[16];
+
+    /** Number of registered words */
+    private int wordCount = 0;
+
+    /** Horizontal word extents in window coordinates, indexed by word */
+    private int[] wordStart = new int[64], wordEnd = new int[64];
+
+    /** Number of fixations each word received */
+    private int[] wordFixations = new int[64];
+
+    /** State of each word */
+    private byte[] wordState = new byte[64];
+
+    /** Line of the last mapped fixation, -1 if none */
+    private int currentLine = -1;
+
+    /** Word of the last mapped fixation within the current fixation line, -1 if none */
+    private int lastWord = -1;
+
+    /**
+     * @param config
+     */
+    Reading(Config config) {
+        this.config = config;
+    }
+
+    /**
+     * Registers a text line. Word boundaries are given as the x positions where each word
+     * starts, in ascending order; each word ends where the next one starts, the last one at
+     * the end of the line.
+     *
+     * @param x Left of the line (window coordinates)
+     * @param y Top of the line (window coordinates)
+     * @param width
+     * @param height
+     * @param wordStarts Start x positions of the words (window coordinates)
+     *
+     * @return The index of the new line.
+     */
+    public int registerLine(int x, int y, int width, int height, int[] wordStarts) {
+        try {
+            this.lock.lock();
+
+            final int line = this.lineCount++;
+            if (line == this.lineX.length) growLines(2 * line);
+
+            this.lineX[line] = x;
+            this.lineY[line] = y;
+            this.lineWidth[line] = width;
+            this.lineHeight[line] = height;
+            this.lineFirstWord[line] = this.wordCount;
+            this.lineWords[line] = wordStarts.length;
+
+            if (this.wordCount + wordStarts.length > this.wordStart.length)
+                growWords(Math.max(2 * this.wordStart.length, this.wordCount + wordStarts.length));
+
+            for (int i = 0; i < wordStarts.length; i++) {
+                final int word = this.wordCount++;
+                this.wordStart[word] = wordStarts[i];
+                this.wordEnd[word] = i + 1 < wordStarts.length ? wordStarts[i + 1] : x + width;
+            }
+
+            // Insert into y order; registration is rare, lookups are not
+            int pos = line;
+            while (pos > 0 && this.lineY[this.lineOrder[pos - 1]] > y) {
+                this.lineOrder[pos] = this.lineOrder[pos - 1];
+                pos--;
+            }
+            this.lineOrder[pos] = line;
+
+            return line;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Removes all lines and words, e.g., when a new page is shown.
+     */
+    public void clear() {
+        try {
+            this.lock.lock();
+
+            Arrays.fill(this.lineReadWords, 0, this.lineCount, 0);
+            Arrays.fill(this.lineSeenWords, 0, this.lineCount, 0);
+            Arrays.fill(this.lineState, 0, this.lineCount, (byte) UNSEEN);
+            Arrays.fill(this.wordFixations, 0, this.wordCount, 0);
+            Arrays.fill(this.wordState, 0, this.wordCount, (byte) UNSEEN);
+
+            this.lineCount = 0;
+            this.wordCount = 0;
+            this.currentLine = -1;
+            this.lastWord = -1;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @return The number of registered lines.
+     */
+    public int lineCount() {
+        try {
+            this.lock.lock();
+            return this.lineCount;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @param line
+     * @return The number of words of the given line.
+     */
+    public int wordCount(int line) {
+        try {
+            this.lock.lock();
+            return this.lineWords[line];
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @param line
+     * @return UNSEEN, SKIPPED, SKIMMED or READ.
+     */
+    public int lineState(int line) {
+        try {
+            this.lock.lock();
+            return this.lineState[line];
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @param line
+     * @param word Index of the word within the line.
+     * @return UNSEEN, SKIPPED, SKIMMED or READ.
+     */
+    public int wordState(int line, int word) {
+        try {
+            this.lock.lock();
+            return this.wordState[this.lineFirstWord[line] + word];
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * @param line
+     * @param word Index of the word within the line.
+     * @return How many fixations landed on the word.
+     */
+    public int wordFixations(int line, int word) {
+        try {
+            this.lock.lock();
+            return this.wordFixations[this.lineFirstWord[line] + word];
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Maps the next fixation of a fixation line. Costs a binary search over the lines and
+     * one over the words of the hit line, plus the words jumped over.
+     *
+     * @param x Window relative
+     * @param y Window relative
+     */
+    void nextFixation(int x, int y) {
+        try {
+            this.lock.lock();
+
+            final int line = findLine(y);
+            if (line < 0) return;
+
+            if (line != this.currentLine) {
+                skipLinesBetween(this.currentLine, line);
+                this.currentLine = line;
+                this.lastWord = -1;
+            }
+
+            final int word = findWord(line, x);
+            if (word < 0) return;
+
+            this.wordFixations[word]++;
+
+            // Forward jumps skip the words in between; long ones are skimming
+            int state = READ;
+            if (this.lastWord >= 0 && word > this.lastWord) {
+                for (int w = this.lastWord + 1; w < word; w++) {
+                    if (this.wordState[w] == UNSEEN) setWordState(line, w, SKIPPED);
+                }
+
+                if (word - this.lastWord > this.config.readingSkimWordSpan) state = SKIMMED;
+            }
+
+            if (state > this.wordState[word]) setWordState(line, word, state);
+
+            this.lastWord = word;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Called when the current fixation line ended. The next fixation starts over within its
+     * line.
+     */
+    void fixationLineEnded() {
+        try {
+            this.lock.lock();
+            this.lastWord = -1;
+        } finally {
+            this.lock.unlock();
+        }
+    }
+
+    /**
+     * Updates a word and the counters of its line.
+     *
+     * @param line
+     * @param word
+     * @param state
+     */
+    private void setWordState(int line, int word, int state) {
+        final int old = this.wordState[word];
+        this.wordState[word] = (byte) state;
+
+        if (old < SKIMMED && state >= SKIMMED) this.lineSeenWords[line]++;
+        if (old < READ && state == READ) this.lineReadWords[line]++;
+
+        final int words = this.lineWords[line];
+        if (this.lineReadWords[line] >= this.config.readingLineCoverage * words) {
+            this.lineState[line] = READ;
+        } else if (this.lineSeenWords[line] > 0) {
+            this.lineState[line] = SKIMMED;
+        } else if (this.lineState[line] == UNSEEN && state == SKIPPED) {
+            this.lineState[line] = SKIPPED;
+        }
+    }
+
+    /**
+     * Marks unseen lines as skipped if the reader moved downwards across them.
+     *
+     * @param from
+     * @param to
+     */
+    private void skipLinesBetween(int from, int to) {
+        if (from < 0) return;
+
+        final int a = orderOf(from);
+        final int b = orderOf(to);
+
+        for (int i = a + 1; i < b; i++) {
+            final int line = this.lineOrder[i];
+            if (this.lineState[line] == UNSEEN) this.lineState[line] = SKIPPED;
+        }
+    }
+
+    /**
+     * @param line
+     * @return The position of the line in y order.
+     */
+    private int orderOf(int line) {
+        int low = 0, high = this.lineCount - 1;
+        final int y = this.lineY[line];
+
+        // Find the first line at this y, then walk over equal ones
+        while (low < high) {
+            final int mid = (low + high) >>> 1;
+            if (this.lineY[this.lineOrder[mid]] < y) low = mid + 1;
+            else high = mid;
+        }
+
+        while (this.lineOrder[low] != line)
+            low++;
+
+        return low;
+    }
+
+    /**
+     * @param y
+     * @return The line closest to y within the tolerance, or -1.
+     */
+    private int findLine(int y) {
+        if (this.lineCount == 0) return -1;
+
+        // Last line starting at or above y
+        int low = 0, high = this.lineCount - 1, pos = -1;
+        while (low <= high) {
+            final int mid = (low + high) >>> 1;
+            if (this.lineY[this.lineOrder[mid]] <= y) {
+                pos = mid;
+                low = mid + 1;
+            } else {
+                high = mid - 1;
+            }
+        }
+
+        // Fixations often land a bit off, so check the neighbor below as well
+        int best = -1, bestDistance = Integer.MAX_VALUE;
+        for (int i = Math.max(pos, 0); i <= pos + 1 && i < this.lineCount; i++) {
+            final int line = this.lineOrder[i];
+            final int distance = Math.abs(y - (this.lineY[line] + this.lineHeight[line] / 2));
+            if (distance < bestDistance && distance <= this.lineHeight[line] / 2 + this.config.readingLineTolerance) {
+                best = line;
+                bestDistance = distance;
+            }
+        }
+
+        return best;
+    }
+
+    /**
+     * @param line
+     * @param x
+     * @return The word of the line hit by x, or -1 if x is too far off the words.
+     */
+    private int findWord(int line, int x) {
+        final int first = this.lineFirstWord[line];
+        final int words = this.lineWords[line];
+        if (words == 0) return -1;
+
+        final int tolerance = this.config.readingLineTolerance;
+        if (x < this.wordStart[first] - tolerance || x > this.wordEnd[first + words - 1] + tolerance) return -1;
+
+        int low = first, high = first + words - 1;
+        while (low < high) {
+            final int mid = (low + high + 1) >>> 1;
+            if (this.wordStart[mid] <= x) low = mid;
+            else high = mid - 1;
+        }
+
+        return low;
+    }
+
+    /**
+     * @param size
+     */
+    private void growLines(int size) {
+        this.lineX = Arrays.copyOf(this.lineX, size);
+        this.lineY = Arrays.copyOf(this.lineY, size);
+        this.lineWidth = Arrays.copyOf(this.lineWidth, size);
+        this.lineHeight = Arrays.copyOf(this.lineHeight, size);
+        this.lineFirstWord = Arrays.copyOf(this.lineFirstWord, size);
+        this.lineWords = Arrays.copyOf(this.lineWords, size);
+        this.lineReadWords = Arrays.copyOf(this.lineReadWords, size);
+        this.lineSeenWords = Arrays.copyOf(this.lineSeenWords, size);
+        this.lineState = Arrays.copyOf(this.lineState, size);
+        this.lineOrder = Arrays.copyOf(this.lineOrder, size);
+    }
+
+    /**
+     * @param size
+     */
+    private void growWords(int size) {
+        this.wordStart = Arrays.copyOf(this.wordStart, size);
+        this.wordEnd = Arrays.copyOf(this.wordEnd, size);
+        this.wordFixations = Arrays.copyOf(this.wordFixations, size);
+        this.wordState = Arrays.copyOf(this.wordState, size);
+    }
+}
@@ -0,0 +1,172 @@
+/*
+ * SaccadeDetector.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+import java.util.List;
+
+/**
+ * Computes gaze velocity and acceleration over the raw samples with a 5 point
+ * Savitzky-Golay differentiator and detects saccades by velocity with hysteresis. Only
+ * accessed from the tracking thread, with the precision lock held.
+ */
+class SaccadeDetector {
+    /** Number of samples the kernels span */
+    static final int KERNEL_SIZE = 5;
+
+    /** First derivative kernel (quadratic fit), normalized by 10 h */
+    private static final float[] FIRST = { -2, -1, 0, 1, 2 };
+
+    /** Second derivative kernel (quadratic fit), normalized by 7 h^2 */
+    private static final float[] SECOND = { 2, -1, -2, -1, 2 };
+
+    /** Sample times of the ring */
+    private final long[] times = new long[KERNEL_SIZE];
+
+    /** Sample x positions of the ring */
+    private final float[] xs = new float[KERNEL_SIZE];
+
+    /** Sample y positions of the ring */
+    private final float[] ys = new float[KERNEL_SIZE];
+
+    /** Where the next sample goes */
+    private int next = 0;
+
+    /** Number of consecutive valid samples in the ring */
+    private int count = 0;
+
+    /** Highest velocity of the current saccade */
+    private float peak = 0;
+
+    /** Where we publish our results */
+    private final Motion motion;
+
+    /** Our config */
+    private final Config config;
+
+    /** Who wants to know about saccades */
+    private final List<SaccadeListener> listeners;
+
+    /**
+     * @param motion
+     * @param config
+     * @param listeners
+     */
+    SaccadeDetector(Motion motion, Config config, List<SaccadeListener> listeners) {
+        this.motion = motion;
+        this.config = config;
+        this.listeners = listeners;
+    }
+
+    /**
+     * Called for samples without valid gaze. Starts over, as we must not differentiate
+     * across gaps. A saccade in progress (blinks often fall into one) is ended at the last
+     * valid sample, so listeners always see a start and an end.
+     */
+    void invalidSample() {
+        this.count = 0;
+        this.motion.velocity = 0;
+        this.motion.acceleration = 0;
+
+        if (!this.motion.inSaccade) return;
+
+        this.motion.inSaccade = false;
+
+        final int newest = (this.next + KERNEL_SIZE - 1) % KERNEL_SIZE;
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).saccadeEnded(this.times[newest], (int) this.xs[newest], (int) this.ys[newest], this.peak);
+        }
+
+        this.peak = 0;
+    }
+
+    /**
+     * Adds a valid sample.
+     *
+     * @param time
+     * @param x
+     * @param y
+     */
+    void addSample(long time, float x, float y) {
+        this.times[this.next] = time;
+        this.xs[this.next] = x;
+        this.ys[this.next] = y;
+        this.next = (this.next + 1) % KERNEL_SIZE;
+
+        if (this.count < KERNEL_SIZE) this.count++;
+        if (this.count < KERNEL_SIZE) return;
+
+        // Oldest sample is where next points to now, center is two further
+        final int oldest = this.next;
+        final int center = (oldest + KERNEL_SIZE / 2) % KERNEL_SIZE;
+        final long newestTime = this.times[(oldest + KERNEL_SIZE - 1) % KERNEL_SIZE];
+
+        // Average sample interval in seconds. Duplicate timestamps give no information.
+        final float h = (newestTime - this.times[oldest]) / 1000f / (KERNEL_SIZE - 1);
+        if (h <= 0) return;
+
+        float vx = 0, vy = 0, ax = 0, ay = 0;
+        for (int i = 0; i < KERNEL_SIZE; i++) {
+            final int j = (oldest + i) % KERNEL_SIZE;
+            vx += FIRST[i] * this.xs[j];
+            vy += FIRST[i] * this.ys[j];
+            ax += SECOND[i] * this.xs[j];
+            ay += SECOND[i] * this.ys[j];
+        }
+
+        final float velocity = (float) Math.sqrt(vx * vx + vy * vy) / (10 * h);
+        final float acceleration = (float) Math.sqrt(ax * ax + ay * ay) / (7 * h * h);
+
+        this.motion.velocity = velocity;
+        this.motion.acceleration = acceleration;
+
+        // Hysteresis, so noise around a single threshold does not split saccades
+        if (!this.motion.inSaccade) {
+            if (velocity < this.config.saccadeOnsetVelocity) return;
+
+            this.motion.inSaccade = true;
+            this.peak = velocity;
+
+            for (int i = 0; i < this.listeners.size(); i++) {
+                this.listeners.get(i).saccadeStarted(this.times[center], (int) this.xs[center], (int) this.ys[center]);
+            }
+
+            return;
+        }
+
+        if (velocity > this.peak) this.peak = velocity;
+        if (velocity > this.config.saccadeOffsetVelocity) return;
+
+        this.motion.inSaccade = false;
+
+        for (int i = 0; i < this.listeners.size(); i++) {
+            this.listeners.get(i).saccadeEnded(this.times[center], (int) this.xs[center], (int) this.ys[center], this.peak);
+        }
+
+        this.peak = 0;
+    }
+}
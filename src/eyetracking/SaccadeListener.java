@@ -0,0 +1,55 @@
+/*
+ * SaccadeListener.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+/**
+ * Receives saccade onsets and offsets. Methods are called on the tracking thread while the
+ * tracking data is locked, so they should return quickly and must not touch the sketch's
+ * drawing state.
+ */
+public interface SaccadeListener {
+    /**
+     * Called when a saccade starts.
+     *
+     * @param time Event time of the sample at which the saccade started.
+     * @param x Window relative x position where the saccade started.
+     * @param y Window relative y position where the saccade started.
+     */
+    public void saccadeStarted(long time, int x, int y);
+
+    /**
+     * Called when a saccade ends. Every start gets exactly one end; if tracking is lost
+     * during a saccade, it ends at the last valid sample.
+     *
+     * @param time Event time of the sample at which the saccade ended.
+     * @param x Window relative x position where the saccade landed.
+     * @param y Window relative y position where the saccade landed.
+     * @param peakVelocity Highest velocity during the saccade in pixels per second.
+     */
+    public void saccadeEnded(long time, int x, int y, float peakVelocity);
+}
@@ -0,0 +1,236 @@
+/*
+ * SketchEvents.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+
+/**
+ * Calls the gaze event methods a sketch may define, Processing style:
+ *
+ * <pre>
+ * void gazeFixation(int x, int y)
+ * void gazeEnter()
+ * void gazeLeave()
+ * void gazeSample(int x, int y)
+ * void gazeSaccadeStart(int x, int y)
+ * void gazeSaccadeEnd(int x, int y)
+ * void gazeSelect(int target)
+ * </pre>
+ *
+ * Tracking threads queue events with post(); dispatch() then calls all queued events at
+ * once on the animation thread. Sketches implementing GazeListener are called directly;
+ * otherwise methods are looked up once and called by reflection. Events the sketch does not
+ * handle are not queued at all.
+ */
+class SketchEvents implements EventQueue.Sink {
+    /** A fixation started inside the window */
+    static final int FIXATION = 0;
+
+    /** Gaze entered the window */
+    static final int ENTER = 1;
+
+    /** Gaze left the window */
+    static final int LEAVE = 2;
+
+    /** A new raw sample inside the window */
+    static final int SAMPLE = 3;
+
+    /** A saccade started */
+    static final int SACCADE_START = 4;
+
+    /** A saccade ended */
+    static final int SACCADE_END = 5;
+
+    /** A dwell target was selected */
+    static final int SELECT = 6;
+
+    /** Method names, indexed by event type */
+    private static final String[] NAMES = { "gazeFixation", "gazeEnter", "gazeLeave", "gazeSample", "gazeSaccadeStart", "gazeSaccadeEnd", "gazeSelect" };
+
+    /** Range of values we keep boxed for the reflective calls; covers window coordinates */
+    private static final int BOX_MIN = -2048, BOX_MAX = 8192;
+
+    /** Number of int arguments, indexed by event type */
+    private static final int[] ARGUMENTS = { 2, 0, 0, 2, 2, 2, 1 };
+
+    /** Sketch we call */
+    private final Object sketch;
+
+    /** The sketch, if it implements GazeListener; then it is called directly */
+    private final GazeListener listener;
+
+    /** Resolved methods, null where the sketch has none */
+    private final Method[] methods = new Method[NAMES.length];
+
+    /** Boxed values, created on first use, so reflective calls do not allocate once warm */
+    private final Integer[] boxes;
+
+    /** Reused argument arrays, indexed by argument count */
+    private final Object[][] arguments = { new Object[0], new Object[1], new Object[2] };
+
+    /** Holds the events until the next frame */
+    private final EventQueue queue = new EventQueue(1024);
+
+    /** Samples are only queued up to here, so a stalled draw() still leaves room for the rest */
+    private final int sampleLimit = this.queue.capacity() * 3 / 4;
+
+    /**
+     * @param sketch May be null, then no events are delivered.
+     */
+    SketchEvents(Object sketch) {
+        this.sketch = sketch;
+        this.listener = sketch instanceof GazeListener ? (GazeListener) sketch : null;
+        this.boxes = sketch == null || this.listener != null ? null : new Integer[BOX_MAX - BOX_MIN];
+        if (sketch == null || this.listener != null) return;
+
+        for (int i = 0; i < NAMES.length; i++) {
+            final Class<?>[] types = new Class<?>[ARGUMENTS[i]];
+            for (int j = 0; j < types.length; j++) {
+                types[j] = int.class;
+            }
+
+            try {
+                this.methods[i] = sketch.getClass().getMethod(NAMES[i], types);
+            } catch (NoSuchMethodException e) {
+                // Fine, sketch is not interested
+            } catch (SecurityException e) {
+                //
+            }
+        }
+    }
+
+    /**
+     * @param type
+     * @return True if the sketch handles the given event type.
+     */
+    boolean wants(int type) {
+        return this.listener != null || this.methods[type] != null;
+    }
+
+    /**
+     * Queues an event for the next frame. May be called from any thread.
+     *
+     * @param type
+     * @param a
+     * @param b
+     */
+    void post(int type, int a, int b) {
+        if (!wants(type)) return;
+        this.queue.offer(type, a, b, type == SAMPLE ? this.sampleLimit : this.queue.capacity());
+    }
+
+    /**
+     * @return Number of events dropped so far because the sketch did not keep up.
+     */
+    long dropped() {
+        return this.queue.dropped();
+    }
+
+    /**
+     * Delivers all queued events. Must be called on the animation thread.
+     */
+    void dispatch() {
+        this.queue.drain(this);
+    }
+
+    /* (non-Javadoc)
+     * @see eyetracking.EventQueue.Sink#event(int, int, int)
+     */
+    @Override
+    public void event(int type, int a, int b) {
+        if (this.listener != null) {
+            call(type, a, b);
+            return;
+        }
+
+        final Object[] args = this.arguments[ARGUMENTS[type]];
+        if (args.length > 0) args[0] = box(a);
+        if (args.length > 1) args[1] = box(b);
+
+        try {
+            this.methods[type].invoke(this.sketch, args);
+        } catch (InvocationTargetException e) {
+            // Same as Processing does for its own callbacks: report and go on
+            e.getCause().printStackTrace();
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+    }
+
+    /**
+     * @param value
+     * @return The boxed value, cached unless far outside of any window.
+     */
+    private Integer box(int value) {
+        if (value < BOX_MIN || value >= BOX_MAX) return Integer.valueOf(value);
+
+        final Integer boxed = this.boxes[value - BOX_MIN];
+        if (boxed != null) return boxed;
+
+        return this.boxes[value - BOX_MIN] = Integer.valueOf(value);
+    }
+
+    /**
+     * Calls the listener directly.
+     *
+     * @param type
+     * @param a
+     * @param b
+     */
+    private void call(int type, int a, int b) {
+        try {
+            switch (type) {
+            case FIXATION:
+                this.listener.gazeFixation(a, b);
+                break;
+            case ENTER:
+                this.listener.gazeEnter();
+                break;
+            case LEAVE:
+                this.listener.gazeLeave();
+                break;
+            case SAMPLE:
+                this.listener.gazeSample(a, b);
+                break;
+            case SACCADE_START:
+                this.listener.gazeSaccadeStart(a, b);
+                break;
+            case SACCADE_END:
+                this.listener.gazeSaccadeEnd(a, b);
+                break;
+            case SELECT:
+                this.listener.gazeSelect(a);
+                break;
+            }
+        } catch (RuntimeException e) {
+            // Same as for the reflective calls: report and go on
+            e.printStackTrace();
+        }
+    }
+}
@@ -0,0 +1,129 @@
+/*
+ * SlidingStatistics.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+/**
+ * Mean and variance over the last n values, updated in constant time with Welford's method
+ * (the oldest value is taken out the same way a new one is put in).
+ */
+class SlidingStatistics {
+    /** The values in the window */
+    private double[] values;
+
+    /** Where the next value goes */
+    private int next = 0;
+
+    /** Number of values in the window */
+    private int count = 0;
+
+    /** Running mean */
+    private double mean = 0;
+
+    /** Running sum of squared differences from the mean */
+    private double m2 = 0;
+
+    /**
+     * @param size Window size
+     */
+    SlidingStatistics(int size) {
+        this.values = new double[Math.max(size, 1)];
+    }
+
+    /**
+     * Empties the window and changes its size if needed.
+     *
+     * @param size
+     */
+    void reset(int size) {
+        if (size != this.values.length) this.values = new double[Math.max(size, 1)];
+
+        this.next = 0;
+        this.count = 0;
+        this.mean = 0;
+        this.m2 = 0;
+    }
+
+    /**
+     * @return The window size.
+     */
+    int size() {
+        return this.values.length;
+    }
+
+    /**
+     * Adds a value, dropping the oldest one if the window is full.
+     *
+     * @param value
+     * @return The value that was dropped, NaN if none.
+     */
+    double add(double value) {
+        double old = Double.NaN;
+
+        if (this.count == this.values.length) {
+            old = this.values[this.next];
+            final double oldMean = this.mean;
+
+            // Replace old by value in one step
+            this.mean += (value - old) / this.count;
+            this.m2 += (value - old) * (value - this.mean + old - oldMean);
+            if (this.m2 < 0) this.m2 = 0;
+        } else {
+            this.count++;
+
+            final double delta = value - this.mean;
+            this.mean += delta / this.count;
+            this.m2 += delta * (value - this.mean);
+        }
+
+        this.values[this.next] = value;
+        this.next = (this.next + 1) % this.values.length;
+
+        return old;
+    }
+
+    /**
+     * @return The number of values in the window.
+     */
+    int count() {
+        return this.count;
+    }
+
+    /**
+     * @return The mean of the window, 0 if empty.
+     */
+    double mean() {
+        return this.mean;
+    }
+
+    /**
+     * @return The population variance of the window, 0 if empty.
+     */
+    double variance() {
+        return this.count > 0 ? this.m2 / this.count : 0;
+    }
+}
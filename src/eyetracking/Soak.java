@@ -0,0 +1,792 @@
+/*
+ * Soak.java
+ *
+ * Copyright (c) 2026, The eyetracking library contributors. All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without modification, are
+ * permitted provided that the following conditions are met:
+ *
+ * Redistributions of source code must retain the above copyright notice, this list of
+ * conditions and the following disclaimer. Redistributions in binary form must reproduce the
+ * above copyright notice, this list of conditions and the following disclaimer in the
+ * documentation and/or other materials provided with the distribution.
+ *
+ * Neither the name of the author nor the names of its contributors may be used to endorse or
+ * promote products derived from this software without specific prior written permission.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND ANY EXPRESS
+ * OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED WARRANTIES OF
+ * MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE
+ * COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL,
+ * EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF
+ * SUBSTITUTE GOODS OR SERVICES; LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION)
+ * HOWEVER CAUSED AND ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR
+ * TORT (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS SOFTWARE,
+ * EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ *
+ */
+package eyetracking;
+
+import java.awt.Point;
+import java.awt.Rectangle;
+import java.io.BufferedReader;
+import java.io.FileReader;
+import java.io.IOException;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.management.ThreadMXBean;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.locks.LockSupport;
+
+import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixation.Fixation;
+import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixation.FixationEvent;
+import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixation.FixationEventType;
+import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixationline.FixationLine;
+import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixationline.FixationLineEvent;
+import de.dfki.km.text20.services.evaluators.gaze.listenertypes.fixationline.FixationLineEventType;
+import de.dfki.km.text20.services.trackingdevices.eyes.EyeTrackingEvent;
+import de.dfki.km.text20.services.trackingdevices.eyes.EyeTrackingEventValidity;
+
+/**
+ * Headless soak test for the listener path. Drives an EyeTrackingDevice without tracker
+ * from a generated (or replayed) gaze stream for a long time, and fails if it allocates or
+ * stalls more than the budgets allow. A stub sketch receives all gaze events, and dwell
+ * targets, text lines and foveation are set up, so everything on the sample and frame paths
+ * runs. Not part of the library jar; run it from the compiled classes like
+ *
+ * <pre>
+ * java -cp bin:text20.jar:core.jar eyetracking.Soak hours=24 rate=300
+ * </pre>
+ *
+ * Options (key=value): hours (1), rate in Hz (120, 0 = as fast as possible), frameRate (60),
+ * warmup in seconds (30), report interval in seconds (60), replay (CSV file with x,y per
+ * line; x &lt;= 0 means no gaze), sketch (listener or reflective: whether the stub sketch
+ * implements GazeListener or just defines the methods, listener), and the budgets maxBytesPerSample (1), maxBytesPerFrame
+ * (64), maxP99Micros (1000), maxP999Micros (5000), maxGcMillisPerMinute (100) and
+ * maxHeapGrowthMB (16). Exits with 1 if a budget was exceeded.
+ */
+class Soak {
+    /** Latency histogram resolution: one bucket per microsecond, plus one for everything above */
+    static final int LATENCY_BUCKETS = 10001;
+
+    /** Options */
+    final Map<String, String> options = new HashMap<String, String>();
+
+    /** Receives the gaze events */
+    final Sketch sketch;
+
+    /** Device under test */
+    final EyeTrackingDevice device;
+
+    /** Per sample processing time, in microseconds */
+    final AtomicLongArray latencies = new AtomicLongArray(LATENCY_BUCKETS);
+
+    /** Samples processed so far; only written by the sample thread */
+    volatile long samples = 0;
+
+    /** Frames processed so far; only written by the frame thread */
+    volatile long frames = 0;
+
+    /** Set to stop the driver threads */
+    volatile boolean stop = false;
+
+    /** Replayed positions, null if we generate */
+    int[] replayX, replayY;
+
+    /**
+     * @param args
+     */
+    Soak(String[] args) {
+        for (String arg : args) {
+            final int split = arg.indexOf('=');
+            if (split > 0) this.options.put(arg.substring(0, split), arg.substring(split + 1));
+        }
+
+        this.sketch = "reflective".equals(this.options.get("sketch")) ? new ReflectiveSketch() : new ListenerSketch();
+        this.device = new EyeTrackingDevice(null, null, this.sketch);
+
+        // A typical full HD window at the origin
+        this.device.window = new Rectangle(0, 0, 1920, 1080);
+        this.device.config.foveation = true;
+
+        // A gaze keyboard in the lower half, a page of text in the upper one
+        for (int row = 0; row < 4; row++) {
+            for (int column = 0; column < 12; column++) {
+                this.device.dwell.addTarget(column * 160, 540 + row * 135, 160, 135, 600);
+            }
+        }
+
+        for (int line = 0; line < 10; line++) {
+            final int[] words = new int[20];
+            for (int word = 0; word < words.length; word++) {
+                words[word] = 100 + word * 86;
+            }
+
+            this.device.reading.registerLine(100, 40 + line * 48, 1720, 40, words);
+        }
+    }
+
+    /**
+     * @param args
+     * @throws Exception
+     */
+    public static void main(String[] args) throws Exception {
+        System.exit(new Soak(args).run() ? 0 : 1);
+    }
+
+    /**
+     * Runs the soak test.
+     *
+     * @return True if all budgets were kept.
+     * @throws Exception
+     */
+    boolean run() throws Exception {
+        final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (!(threads instanceof com.sun.management.ThreadMXBean)) {
+            System.out.println("This VM cannot measure thread allocations, use a HotSpot VM.");
+            return false;
+        }
+
+        final com.sun.management.ThreadMXBean allocations = (com.sun.management.ThreadMXBean) threads;
+        allocations.setThreadAllocatedMemoryEnabled(true);
+
+        final String replay = this.options.get("replay");
+        if (replay != null) load(replay);
+
+        final long duration = (long) (number("hours", 1) * 3600 * 1000);
+        final long warmup = (long) (number("warmup", 30) * 1000);
+        final long report = (long) (number("report", 60) * 1000);
+
+        final Thread sampler = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                drive((int) number("rate", 120));
+            }
+        }, "Soak samples");
+
+        final Thread animation = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                animate((int) number("frameRate", 60));
+            }
+        }, "Soak frames");
+
+        sampler.setDaemon(true);
+        animation.setDaemon(true);
+        sampler.start();
+        animation.start();
+
+        // Warm up, then measure from a clean state
+        Thread.sleep(warmup);
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        System.gc();
+
+        final long heapStart = memory.getHeapMemoryUsage().getUsed();
+        final long startTime = System.currentTimeMillis();
+        long lastTime = startTime;
+        long lastSampleBytes = allocations.getThreadAllocatedBytes(sampler.getId());
+        long lastFrameBytes = allocations.getThreadAllocatedBytes(animation.getId());
+        long lastGcTime = gcTime();
+
+        // The driver threads keep counting, so take baselines instead of resetting under them
+        final long[] warmupLatencies = new long[LATENCY_BUCKETS];
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            warmupLatencies[i] = this.latencies.get(i);
+        }
+
+        final long startSamples = this.samples, startFrames = this.frames;
+        long lastSamples = startSamples, lastFrames = startFrames;
+        boolean ok = true;
+
+        while (System.currentTimeMillis() - startTime < duration) {
+            Thread.sleep(Math.min(report, Math.max(duration - (System.currentTimeMillis() - startTime), 1)));
+
+            final long now = System.currentTimeMillis();
+            final long samples = this.samples, frames = this.frames;
+            final long sampleBytes = allocations.getThreadAllocatedBytes(sampler.getId());
+            final long frameBytes = allocations.getThreadAllocatedBytes(animation.getId());
+            final long gcTime = gcTime();
+
+            final double bytesPerSample = (double) (sampleBytes - lastSampleBytes) / Math.max(samples - lastSamples, 1);
+            final double bytesPerFrame = (double) (frameBytes - lastFrameBytes) / Math.max(frames - lastFrames, 1);
+            final double gcPerMinute = (gcTime - lastGcTime) * 60000.0 / Math.max(now - lastTime, 1);
+            final long p99 = percentile(0.99, warmupLatencies), p999 = percentile(0.999, warmupLatencies);
+
+            System.out.printf("%6.2fh samples=%d frames=%d events=%d dropped=%d bytes/sample=%.2f bytes/frame=%.2f p99=%dus p99.9=%dus gc=%.1fms/min heap=%dMB%n", (now - startTime) / 3600000.0, samples - startSamples, frames - startFrames, this.sketch.events, this.device.droppedEvents(), bytesPerSample, bytesPerFrame, p99, p999, gcPerMinute, memory.getHeapMemoryUsage().getUsed() >> 20);
+
+            ok &= check("bytes per sample", bytesPerSample, number("maxBytesPerSample", 1));
+            ok &= check("bytes per frame", bytesPerFrame, number("maxBytesPerFrame", 64));
+            ok &= check("p99 latency (us)", p99, number("maxP99Micros", 1000));
+            ok &= check("p99.9 latency (us)", p999, number("maxP999Micros", 5000));
+            ok &= check("gc ms per minute", gcPerMinute, number("maxGcMillisPerMinute", 100));
+
+            lastTime = now;
+            lastSamples = samples;
+            lastFrames = frames;
+            lastSampleBytes = sampleBytes;
+            lastFrameBytes = frameBytes;
+            lastGcTime = gcTime;
+        }
+
+        this.stop = true;
+        sampler.join();
+        animation.join();
+
+        // Anything still reachable now was kept by the device
+        System.gc();
+        final double growth = (memory.getHeapMemoryUsage().getUsed() - heapStart) / (1024.0 * 1024.0);
+        System.out.printf("heap growth=%.2fMB%n", growth);
+        ok &= check("heap growth (MB)", growth, number("maxHeapGrowthMB", 16));
+
+        System.out.println(ok ? "PASSED" : "FAILED");
+        return ok;
+    }
+
+    /**
+     * Feeds samples into the device at the given rate, and fixations whenever a saccade
+     * starts or ends. Must not allocate, so everything is set up before the loop.
+     *
+     * @param rate Samples per second, 0 for as fast as possible
+     */
+    void drive(int rate) {
+        final Random random = new Random(0);
+        final SampleEvent sample = new SampleEvent();
+        final SampleEvent fixationStart = new SampleEvent();
+        final SampleEvent fixationEnd = new SampleEvent();
+        final SimpleFixation fixation = new SimpleFixation(fixationStart, fixationEnd);
+        final SimpleFixationEvent fixationEvent = new SimpleFixationEvent(fixation);
+        final SimpleFixationLineEvent lineEvent = new SimpleFixationLineEvent(fixation);
+
+        final long period = rate > 0 ? 1000000000L / rate : 0;
+        long deadline = System.nanoTime();
+        long time = 0, nanos = 0;
+        int position = 0;
+
+        // Generator state: where the eyes rest, where they go, how long until they do
+        float gazeX = 960, gazeY = 540, targetX = 960, targetY = 540;
+        int fixationLeft = 0, saccadeLeft = 0, blinkLeft = 0;
+        boolean inFixation = false, inLine = false;
+        int lineY = 0;
+
+        while (!this.stop) {
+            if (period > 0) {
+                deadline += period;
+                final long wait = deadline - System.nanoTime();
+                if (wait > 0) LockSupport.parkNanos(wait);
+            }
+
+            // Sum up in ns, so the ms sample times neither truncate nor stand still at high rates
+            nanos += period > 0 ? period : 1000000;
+            time = nanos / 1000000;
+
+            // Next position, either replayed or a fixation/saccade/blink pattern
+            boolean valid;
+            int x, y;
+            if (this.replayX != null) {
+                x = this.replayX[position];
+                y = this.replayY[position];
+                valid = x > 0 && y > 0;
+                position = (position + 1) % this.replayX.length;
+            } else {
+                if (blinkLeft > 0) {
+                    blinkLeft--;
+                } else if (random.nextInt(1000) < 2) {
+                    blinkLeft = 10 + random.nextInt(20);
+                }
+
+                if (saccadeLeft > 0) {
+                    gazeX += (targetX - gazeX) / saccadeLeft;
+                    gazeY += (targetY - gazeY) / saccadeLeft;
+                    saccadeLeft--;
+                } else if (fixationLeft-- <= 0) {
+                    targetX = 50 + random.nextInt(1820);
+                    targetY = 50 + random.nextInt(980);
+                    saccadeLeft = 3 + random.nextInt(5);
+                    fixationLeft = 30 + random.nextInt(60);
+                }
+
+                valid = blinkLeft == 0;
+                x = Math.round(gazeX + (float) random.nextGaussian() * 3);
+                y = Math.round(gazeY + (float) random.nextGaussian() * 3);
+            }
+
+            sample.set(time, valid, x, y);
+
+            final long start = System.nanoTime();
+            this.device.processTrackingEvent(sample);
+
+            // Fixations from the saccade detector, close enough for a load test
+            final boolean saccade = this.device.motion.inSaccade;
+            if (inFixation && (saccade || !valid)) {
+                fixationEnd.set(time, true, x, y);
+                fixationEvent.set(FixationEventType.FIXATION_END, time);
+                this.device.processFixationEvent(fixationEvent);
+                inFixation = false;
+            } else if (!inFixation && !saccade && valid) {
+                fixationStart.set(time, true, x, y);
+                fixation.center.setLocation(x, y);
+                fixationEvent.set(FixationEventType.FIXATION_START, time);
+                this.device.processFixationEvent(fixationEvent);
+                inFixation = true;
+
+                // Fixations at about the same height make up a line, like the line handler does
+                if (inLine && Math.abs(y - lineY) > 30) {
+                    lineEvent.set(FixationLineEventType.FIXATION_LINE_ENDED, time);
+                    this.device.processFixationLineEvent(lineEvent);
+                    inLine = false;
+                }
+
+                lineEvent.set(inLine ? FixationLineEventType.FIXATION_LINE_CONTINUED : FixationLineEventType.FIXATION_LINE_STARTED, time);
+                this.device.processFixationLineEvent(lineEvent);
+                inLine = true;
+                lineY = y;
+            }
+
+            final long micros = (System.nanoTime() - start) / 1000;
+            this.latencies.incrementAndGet((int) Math.min(micros, LATENCY_BUCKETS - 1));
+            this.samples++;
+        }
+    }
+
+    /**
+     * Calls pre() at the given frame rate, like the animation thread would.
+     *
+     * @param frameRate
+     */
+    void animate(int frameRate) {
+        final long period = 1000000000L / Math.max(frameRate, 1);
+        long deadline = System.nanoTime();
+
+        while (!this.stop) {
+            deadline += period;
+            final long wait = deadline - System.nanoTime();
+            if (wait > 0) LockSupport.parkNanos(wait);
+
+            this.device.pre();
+            this.frames++;
+        }
+    }
+
+    /**
+     * @param fraction
+     * @param baseline Histogram to subtract, i.e. what was counted during warmup
+     * @return The latency (in microseconds) below which the given fraction of samples lies.
+     */
+    long percentile(double fraction, long[] baseline) {
+        long total = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            total += this.latencies.get(i) - baseline[i];
+        }
+
+        final long limit = (long) Math.ceil(total * fraction);
+        long sum = 0;
+        for (int i = 0; i < LATENCY_BUCKETS; i++) {
+            sum += this.latencies.get(i) - baseline[i];
+            if (sum >= limit) return i;
+        }
+
+        return LATENCY_BUCKETS - 1;
+    }
+
+    /**
+     * @return Total time spent in garbage collection so far, in ms.
+     */
+    static long gcTime() {
+        long time = 0;
+        for (GarbageCollectorMXBean bean : ManagementFactory.getGarbageCollectorMXBeans()) {
+            time += Math.max(bean.getCollectionTime(), 0);
+        }
+        return time;
+    }
+
+    /**
+     * @param what
+     * @param value
+     * @param budget
+     * @return True if the value is within the budget.
+     */
+    static boolean check(String what, double value, double budget) {
+        if (value <= budget) return true;
+
+        System.out.printf("BUDGET EXCEEDED: %s is %.2f, allowed are %.2f%n", what, value, budget);
+        return false;
+    }
+
+    /**
+     * @param key
+     * @param fallback
+     * @return The numeric option, or the fallback.
+     */
+    double number(String key, double fallback) {
+        final String value = this.options.get(key);
+        return value == null ? fallback : Double.parseDouble(value);
+    }
+
+    /**
+     * Loads a replay file: one sample per line, x and y separated by a comma.
+     *
+     * @param file
+     * @throws IOException
+     */
+    void load(String file) throws IOException {
+        final List<int[]> positions = new ArrayList<int[]>();
+        final BufferedReader reader = new BufferedReader(new FileReader(file));
+
+        try {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                final String[] parts = line.trim().split("\\s*,\\s*");
+                if (parts.length < 2) continue;
+
+                try {
+                    positions.add(new int[] { (int) Double.parseDouble(parts[0]), (int) Double.parseDouble(parts[1]) });
+                } catch (NumberFormatException e) {
+                    // Header or garbage
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        if (positions.isEmpty()) throw new IOException("No samples in " + file);
+
+        this.replayX = new int[positions.size()];
+        this.replayY = new int[positions.size()];
+        for (int i = 0; i < positions.size(); i++) {
+            this.replayX[i] = positions.get(i)[0];
+            this.replayY[i] = positions.get(i)[1];
+        }
+    }
+
+    /**
+     * A tracking event we can reuse.
+     */
+    static class SampleEvent implements EyeTrackingEvent {
+        /** */
+        long time;
+
+        /** */
+        final Point gaze = new Point();
+
+        /** */
+        boolean valid;
+
+        /** */
+        final float[] head = { 0.5f, 0.5f, 0.5f };
+
+        /**
+         * @param time
+         * @param valid
+         * @param x
+         * @param y
+         */
+        void set(long time, boolean valid, int x, int y) {
+            this.time = time;
+            this.valid = valid;
+            this.gaze.setLocation(x, y);
+        }
+
+        @Override
+        public long getEventTime() {
+            return this.time;
+        }
+
+        @Override
+        public boolean areValid(EyeTrackingEventValidity... validities) {
+            return this.valid;
+        }
+
+        @Override
+        public Point getGazeCenter() {
+            return this.valid ? this.gaze : null;
+        }
+
+        @Override
+        public float[] getHeadPosition() {
+            return this.head;
+        }
+
+        @Override
+        public float getLeftEyeDistance() {
+            return 0.5f;
+        }
+
+        @Override
+        public float[] getLeftEyeGazePosition() {
+            return null;
+        }
+
+        @Override
+        public float[] getRightEyeGazePosition() {
+            return null;
+        }
+
+        @Override
+        public Point getRightEyeGazePoint() {
+            return getGazeCenter();
+        }
+
+        @Override
+        public Point getLeftEyeGazePoint() {
+            return getGazeCenter();
+        }
+
+        @Override
+        public float[] getLeftEyePosition() {
+            return null;
+        }
+
+        @Override
+        public float getPupilSizeLeft() {
+            return 0;
+        }
+
+        @Override
+        public float getPupilSizeRight() {
+            return 0;
+        }
+
+        @Override
+        public float getRightEyeDistance() {
+            return 0.5f;
+        }
+
+        @Override
+        public float[] getRightEyePosition() {
+            return null;
+        }
+    }
+
+    /**
+     * A fixation spanning two reusable events.
+     */
+    static class SimpleFixation implements Fixation {
+        /** */
+        final Point center = new Point();
+
+        /** */
+        final List<EyeTrackingEvent> events = new ArrayList<EyeTrackingEvent>();
+
+        /**
+         * @param start
+         * @param end
+         */
+        SimpleFixation(EyeTrackingEvent start, EyeTrackingEvent end) {
+            this.events.add(start);
+            this.events.add(end);
+        }
+
+        @Override
+        public Point getCenter() {
+            return this.center;
+        }
+
+        @Override
+        public List<EyeTrackingEvent> getTrackingEvents() {
+            return this.events;
+        }
+    }
+
+    /**
+     * A fixation event we can reuse.
+     */
+    static class SimpleFixationEvent implements FixationEvent {
+        /** */
+        final Fixation fixation;
+
+        /** */
+        FixationEventType type;
+
+        /** */
+        long time;
+
+        /**
+         * @param fixation
+         */
+        SimpleFixationEvent(Fixation fixation) {
+            this.fixation = fixation;
+        }
+
+        /**
+         * @param type
+         * @param time
+         */
+        void set(FixationEventType type, long time) {
+            this.type = type;
+            this.time = time;
+        }
+
+        @Override
+        public Fixation getFixation() {
+            return this.fixation;
+        }
+
+        @Override
+        public FixationEventType getType() {
+            return this.type;
+        }
+
+        @Override
+        public long getGenerationTime() {
+            return this.time;
+        }
+    }
+
+    /**
+     * A fixation line event we can reuse; the line is just the current fixation.
+     */
+    static class SimpleFixationLineEvent implements FixationLineEvent, FixationLine {
+        /** */
+        final List<Fixation> fixations = new ArrayList<Fixation>();
+
+        /** */
+        FixationLineEventType type;
+
+        /** */
+        long time;
+
+        /**
+         * @param fixation
+         */
+        SimpleFixationLineEvent(Fixation fixation) {
+            this.fixations.add(fixation);
+        }
+
+        /**
+         * @param type
+         * @param time
+         */
+        void set(FixationLineEventType type, long time) {
+            this.type = type;
+            this.time = time;
+        }
+
+        @Override
+        public FixationLineEventType getEventType() {
+            return this.type;
+        }
+
+        @Override
+        public FixationLine getFixationLine() {
+            return this;
+        }
+
+        @Override
+        public List<Fixation> getFixations() {
+            return this.fixations;
+        }
+
+        @Override
+        public long getGenerationTime() {
+            return this.time;
+        }
+    }
+
+    /**
+     * Stands in for the sketch and counts the events it gets. Called on the frame thread only.
+     */
+    static class Sketch {
+        /** Events delivered so far */
+        volatile long events = 0;
+    }
+
+    /**
+     * A sketch that just defines the gaze methods, called by reflection.
+     */
+    static class ReflectiveSketch extends Sketch {
+        /**
+         * @param x
+         * @param y
+         */
+        public void gazeFixation(int x, int y) {
+            this.events++;
+        }
+
+        /** */
+        public void gazeEnter() {
+            this.events++;
+        }
+
+        /** */
+        public void gazeLeave() {
+            this.events++;
+        }
+
+        /**
+         * @param x
+         * @param y
+         */
+        public void gazeSample(int x, int y) {
+            this.events++;
+        }
+
+        /**
+         * @param x
+         * @param y
+         */
+        public void gazeSaccadeStart(int x, int y) {
+            this.events++;
+        }
+
+        /**
+         * @param x
+         * @param y
+         */
+        public void gazeSaccadeEnd(int x, int y) {
+            this.events++;
+        }
+
+        /**
+         * @param target
+         */
+        public void gazeSelect(int target) {
+            this.events++;
+        }
+    }
+
+    /**
+     * A sketch implementing GazeListener, called directly.
+     */
+    static class ListenerSketch extends Sketch implements GazeListener {
+        @Override
+        public void gazeFixation(int x, int y) {
+            this.events++;
+        }
+
+        @Override
+        public void gazeEnter() {
+            this.events++;
+        }
+
+        @Override
+        public void gazeLeave() {
+            this.events++;
+        }
+
+        @Override
+        public void gazeSample(int x, int y) {
+            this.events++;
+        }
+
+        @Override
+        public void gazeSaccadeStart(int x, int y) {
+            this.events++;
+        }
+
+        @Override
+        public void gazeSaccadeEnd(int x, int y) {
+            this.events++;
+        }
+
+        @Override
+        public void gazeSelect(int target) {
+            this.events++;
+        }
+    }
+}